@@ -17,7 +17,6 @@ import com.gh.model.Guesthouse;
 import com.gh.model.MusicGH;
 import com.gh.model.PartyGH;
 import com.gh.model.PetGH;
-import com.gh.service.BookingFileManager;
 import com.gh.service.BookingServiceImpl;
 import com.gh.service.GuesthouseManager;
 import com.gh.user.Account;
@@ -69,6 +68,7 @@ public class Main {
 		gh.add(new PartyGH("GH004", LocalDate.now(), LocalDate.now().plusDays(1), 1, 1, null, "파티존 루프탑", "파티", 150.0,
 				10, 0, "루프탑 파티 공간, DJ 부스 완비", 19));
 		gh.add(new Guesthouse("GH005", "일반 게스트하우스", "파티", 50.0, 4, 0, "저렴하고 깨끗한 일반 숙소"));
+		service.registerGuesthouses(gh);
 
 		// 고객 생성
 		List<Customer> customers = new ArrayList<>();
@@ -113,8 +113,8 @@ public class Main {
 			}
 		}
 
-		// 저장된 예약 내역 불러오기
-		BookingFileManager.loadBookings(customer, gh);
+		// 저장된 예약 내역 불러오기 (숙소별 인원에 다른 고객의 예약도 반영되도록 모든 고객의 예약을 불러옴)
+		service.loadBookings(customers, gh);
 
 		// CRUD 메뉴
 		while (true) {
@@ -228,7 +228,7 @@ public class Main {
 				 */
 				case 2:
 					System.out.println("[예약 변경] 고객의 예약 목록:");
-					List<Booking> userBookings = customer.getBookings();
+					List<Booking> userBookings = service.findActiveBookings(customer);
 	
 					if (userBookings.isEmpty()) {
 						System.out.println("예약 내역이 없습니다.");
@@ -295,7 +295,7 @@ public class Main {
 				 * 예약 취소
 				 */
 				case 3:
-					List<Booking> cancelList = customer.getBookings();
+					List<Booking> cancelList = service.findActiveBookings(customer);
 	
 					if (cancelList.isEmpty()) {
 						System.out.println("예약 내역이 없습니다.");
@@ -333,7 +333,6 @@ public class Main {
 					if (confirm.equals("Y")) {
 						try {
 							service.deleteBooking(customer, toCancel.getBookingId());
-							cancelList.remove(cancelIndex); // 예외 없을 때만 삭제
 						} catch (BookingCancelledException e) {
 							System.out.println("[삭제 실패] " + e.getMessage());
 						}
@@ -414,6 +413,7 @@ public class Main {
 	
 				case 8:
 					System.out.println("프로그램을 종료합니다.");
+					service.flush();
 					System.exit(0);
 	
 				default:
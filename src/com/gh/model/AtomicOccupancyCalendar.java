@@ -0,0 +1,187 @@
+package com.gh.model;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code AtomicOccupancyCalendar} 클래스는 날짜별 투숙 인원을 {@link AtomicIntegerArray} 페이지에 저장하는 락 없는
+ * 달력입니다.
+ *
+ * <p>
+ * {@link #tryReserve(long, long, int, int)}는 체크인 날짜부터 하루씩 CAS로 자리를 확보하다가 수용 인원을 넘는 첫 날짜에서
+ * 멈추고, 그때까지 확보한 날짜를 되돌립니다. 인기 날짜에 예약이 몰려도 스레드가 락을 기다리지 않고, 실패한 예약만 자신이 확보한
+ * 날짜를 되돌리는 비용을 냅니다. 진행 중인 예약이 잠시 확보한 자리도 인원으로 보이므로 다른 예약이 초과 예약되는 일은 없습니다.
+ * </p>
+ *
+ * <p>
+ * 날짜는 {@value #PAGE_SIZE}일 단위 페이지로 나뉘며, 페이지 목록은 필요한 범위만큼 앞뒤로 확장됩니다. 페이지 생성과 목록 확장만
+ * 잠금을 사용하고, 이미 있는 페이지의 읽기/쓰기는 잠금 없이 처리됩니다.
+ * </p>
+ *
+ * @author 우승환
+ */
+public class AtomicOccupancyCalendar implements DailyOccupancy {
+	/** 페이지 하나가 담는 날짜 수 */
+	private static final int PAGE_SIZE = 64;
+	private static final int PAGE_SHIFT = 6;
+
+	/** 현재 페이지 목록 (확장 시 통째로 교체) */
+	private volatile Directory directory = new Directory(0, 0);
+
+	/**
+	 * 첫 페이지 번호와 페이지 배열을 함께 교체하기 위한 묶음입니다.
+	 */
+	private static final class Directory {
+		final long basePage;
+		final AtomicReferenceArray<AtomicIntegerArray> pages;
+
+		Directory(long basePage, int length) {
+			this.basePage = basePage;
+			this.pages = new AtomicReferenceArray<>(length);
+		}
+
+		AtomicIntegerArray page(long pageNo) {
+			long idx = pageNo - basePage;
+			return idx < 0 || idx >= pages.length() ? null : pages.get((int) idx);
+		}
+	}
+
+	@Override
+	public int get(long epochDay) {
+		AtomicIntegerArray page = directory.page(pageOf(epochDay));
+		return page == null ? 0 : page.get(offsetOf(epochDay));
+	}
+
+	@Override
+	public void add(long startDay, long endDay, int numPeople) {
+		for (long day = startDay; day < endDay; day++) {
+			page(day).addAndGet(offsetOf(day), numPeople);
+		}
+	}
+
+	@Override
+	public void remove(long startDay, long endDay, int numPeople) {
+		for (long day = startDay; day < endDay; day++) {
+			AtomicIntegerArray page = directory.page(pageOf(day));
+			if (page == null) {
+				continue;
+			}
+			int offset = offsetOf(day);
+			int current;
+			do {
+				current = page.get(offset);
+			} while (current > 0 && !page.compareAndSet(offset, current, Math.max(0, current - numPeople)));
+		}
+	}
+
+	@Override
+	public int max(long startDay, long endDay) {
+		int max = 0;
+		for (long day = startDay; day < endDay; day++) {
+			max = Math.max(max, get(day));
+		}
+		return max;
+	}
+
+	@Override
+	public boolean tryReserve(long startDay, long endDay, int numPeople, int capacity) {
+		return tryMove(0, 0, 0, startDay, endDay, numPeople, capacity);
+	}
+
+	@Override
+	public boolean tryMove(long oldStart, long oldEnd, int oldPeople, long newStart, long newEnd, int newPeople,
+			int capacity) {
+		for (long day = newStart; day < newEnd; day++) {
+			// 기존 예약이 차지한 날짜는 곧 비워질 자리만큼 여유를 둠
+			int limit = day >= oldStart && day < oldEnd ? capacity + oldPeople : capacity;
+			if (!reserveDay(day, newPeople, limit)) {
+				add(newStart, day, -newPeople);
+				return false;
+			}
+		}
+		add(oldStart, oldEnd, -oldPeople);
+		return true;
+	}
+
+	@Override
+	public void forEachOccupied(DayConsumer consumer) {
+		Directory dir = directory;
+		for (int i = 0; i < dir.pages.length(); i++) {
+			AtomicIntegerArray page = dir.pages.get(i);
+			if (page == null) {
+				continue;
+			}
+			long firstDay = (dir.basePage + i) << PAGE_SHIFT;
+			for (int offset = 0; offset < PAGE_SIZE; offset++) {
+				int people = page.get(offset);
+				if (people > 0) {
+					consumer.accept(firstDay + offset, people);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 하루치 자리를 CAS로 확보합니다. 확보 후 인원이 limit을 넘는다면 아무것도 바꾸지 않고 실패합니다.
+	 */
+	private boolean reserveDay(long day, int numPeople, int limit) {
+		AtomicIntegerArray page = page(day);
+		int offset = offsetOf(day);
+		while (true) {
+			int current = page.get(offset);
+			if (current + numPeople > limit) {
+				return false;
+			}
+			if (page.compareAndSet(offset, current, current + numPeople)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 날짜가 속한 페이지를 반환하며, 없으면 만듭니다.
+	 */
+	private AtomicIntegerArray page(long day) {
+		long pageNo = pageOf(day);
+		AtomicIntegerArray page = directory.page(pageNo);
+		return page != null ? page : createPage(pageNo);
+	}
+
+	/**
+	 * 페이지 생성과 목록 확장을 같은 잠금 안에서 처리하여 확장 중에 새로 만든 페이지가 유실되지 않도록 합니다.
+	 */
+	private synchronized AtomicIntegerArray createPage(long pageNo) {
+		Directory dir = directory;
+		long length = dir.pages.length();
+		if (length == 0) {
+			dir = new Directory(pageNo, 1);
+		} else if (pageNo < dir.basePage || pageNo >= dir.basePage + length) {
+			long first = Math.min(dir.basePage, pageNo);
+			long last = Math.max(dir.basePage + length - 1, pageNo);
+			// 확장이 필요한 방향으로 기존 크기만큼 여유를 둠
+			long newLength = Math.max(length * 2, last - first + 1);
+			long newBase = pageNo < dir.basePage ? last + 1 - newLength : dir.basePage;
+			Directory grown = new Directory(newBase, Math.toIntExact(newLength));
+			for (int i = 0; i < length; i++) {
+				grown.pages.set((int) (dir.basePage - newBase) + i, dir.pages.get(i));
+			}
+			dir = grown;
+		}
+		int idx = (int) (pageNo - dir.basePage);
+		AtomicIntegerArray page = dir.pages.get(idx);
+		if (page == null) {
+			page = new AtomicIntegerArray(PAGE_SIZE);
+			dir.pages.set(idx, page);
+		}
+		directory = dir;
+		return page;
+	}
+
+	private static long pageOf(long day) {
+		return day >> PAGE_SHIFT;
+	}
+
+	private static int offsetOf(long day) {
+		return (int) (day & (PAGE_SIZE - 1));
+	}
+}
@@ -30,6 +30,10 @@ public class Booking {
 	private Guesthouse guesthouse;
 	/** 예약 취소 여부 */
 	private boolean isCancled;
+	/** 총 결제 금액 */
+	private double totalAmount;
+	/** 예약한 고객 */
+	private Customer customer;
 
 	/**
 	 * 기본 생성자입니다. 기본값으로 오늘 날짜를 시작일로 하고, 1박 1인 기준으로 예약을 생성합니다.
@@ -56,6 +60,27 @@ public class Booking {
 		this.guesthouse = guesthouse;
 	}
 
+	/**
+	 * 저장된 예약을 복원할 때 사용하는 생성자입니다. 예약 ID를 새로 생성하지 않고 저장된 값을 그대로 사용합니다.
+	 * 
+	 * @param bookingId      저장된 예약 ID
+	 * @param startDate      예약 시작일
+	 * @param endDate        예약 종료일
+	 * @param bookingDays    숙박일수
+	 * @param numberOfPeople 투숙 인원 수
+	 * @param guesthouse     예약된 게스트하우스
+	 */
+	public Booking(String bookingId, LocalDate startDate, LocalDate endDate, int bookingDays, int numberOfPeople,
+			Guesthouse guesthouse) {
+		super();
+		this.bookingId = bookingId;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.bookingDays = bookingDays;
+		this.numberOfPeople = numberOfPeople;
+		this.guesthouse = guesthouse;
+	}
+
 	/**
 	 * 예약 ID를 반환합니다.
 	 * 
@@ -188,19 +213,40 @@ public class Booking {
 		return isCancled;
 	}
 
+	/**
+	 * 총 결제 금액을 설정합니다.
+	 * 
+	 * @param totalPrice 총 결제 금액
+	 */
 	public void setTotalAmount(double totalPrice) {
-		// TODO Auto-generated method stub
-
+		this.totalAmount = totalPrice;
 	}
 
+	/**
+	 * 예약한 고객을 반환합니다.
+	 * 
+	 * @return 예약한 고객, 아직 예약이 확정되지 않았으면 {@code null}
+	 */
 	public Customer getCustomer() {
-		// TODO Auto-generated method stub
-		return null;
+		return customer;
+	}
+
+	/**
+	 * 예약한 고객을 설정합니다.
+	 * 
+	 * @param customer 예약한 고객
+	 */
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
 	}
 
+	/**
+	 * 총 결제 금액을 반환합니다.
+	 * 
+	 * @return 총 결제 금액
+	 */
 	public double getTotalAmount() {
-		// TODO Auto-generated method stub
-		return 0;
+		return totalAmount;
 	}
 
 	/**
@@ -0,0 +1,105 @@
+package com.gh.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * {@code DailyOccupancy}는 게스트하우스의 날짜별 투숙 인원을 저장하는 달력의 공통 인터페이스입니다.
+ *
+ * <p>
+ * 날짜는 epoch day로 다루며, 구간은 항상 [체크인, 체크아웃) 형태의 반열린 구간입니다. 인원은 0 미만으로 내려가지 않습니다.
+ * </p>
+ *
+ * @author 우승환
+ */
+public interface DailyOccupancy {
+
+	/**
+	 * 날짜별 인원을 하나씩 전달받는 콜백입니다.
+	 */
+	interface DayConsumer {
+		/**
+		 * @param epochDay 날짜 (epoch day)
+		 * @param people   해당 날짜의 투숙 인원
+		 */
+		void accept(long epochDay, int people);
+	}
+
+	/**
+	 * 특정 날짜의 투숙 인원을 반환합니다.
+	 *
+	 * @param epochDay 날짜 (epoch day)
+	 * @return 투숙 인원, 기록이 없으면 0
+	 */
+	int get(long epochDay);
+
+	/**
+	 * [startDay, endDay) 구간의 모든 날짜에 인원을 추가합니다.
+	 *
+	 * @param startDay  체크인 (epoch day)
+	 * @param endDay    체크아웃 (epoch day, 미포함)
+	 * @param numPeople 추가할 인원 수
+	 */
+	void add(long startDay, long endDay, int numPeople);
+
+	/**
+	 * [startDay, endDay) 구간의 모든 날짜에서 인원을 제거합니다. 0 미만으로는 내려가지 않습니다.
+	 *
+	 * @param startDay  체크인 (epoch day)
+	 * @param endDay    체크아웃 (epoch day, 미포함)
+	 * @param numPeople 제거할 인원 수
+	 */
+	void remove(long startDay, long endDay, int numPeople);
+
+	/**
+	 * [startDay, endDay) 구간에서 가장 많은 투숙 인원을 반환합니다.
+	 *
+	 * @param startDay 체크인 (epoch day)
+	 * @param endDay   체크아웃 (epoch day, 미포함)
+	 * @return 구간 내 최대 투숙 인원, 빈 구간이면 0
+	 */
+	int max(long startDay, long endDay);
+
+	/**
+	 * 구간의 모든 날짜에 인원을 더해도 수용 인원을 넘지 않을 때만 인원을 추가합니다. 확인과 추가는 하나의 연산으로 처리됩니다.
+	 *
+	 * @param startDay  체크인 (epoch day)
+	 * @param endDay    체크아웃 (epoch day, 미포함)
+	 * @param numPeople 추가할 인원 수
+	 * @param capacity  날짜별 최대 수용 인원
+	 * @return 추가에 성공하면 {@code true}, 한 날짜라도 초과하면 아무것도 바꾸지 않고 {@code false}
+	 */
+	boolean tryReserve(long startDay, long endDay, int numPeople, int capacity);
+
+	/**
+	 * 기존 예약 인원을 새 구간으로 옮깁니다. 새 구간이 수용 인원을 넘지 않는지 확인할 때 기존 예약이 차지하던 자리는 빈 것으로
+	 * 봅니다. 실패하면 기존 예약은 그대로 남습니다.
+	 *
+	 * @param oldStart  기존 체크인 (epoch day)
+	 * @param oldEnd    기존 체크아웃 (epoch day, 미포함)
+	 * @param oldPeople 기존 인원 수
+	 * @param newStart  새 체크인 (epoch day)
+	 * @param newEnd    새 체크아웃 (epoch day, 미포함)
+	 * @param newPeople 새 인원 수
+	 * @param capacity  날짜별 최대 수용 인원
+	 * @return 옮기기에 성공하면 {@code true}
+	 */
+	boolean tryMove(long oldStart, long oldEnd, int oldPeople, long newStart, long newEnd, int newPeople,
+			int capacity);
+
+	/**
+	 * 인원이 1명 이상 기록된 날짜를 날짜 순서대로 순회합니다.
+	 *
+	 * @param consumer 날짜별 인원을 전달받을 콜백
+	 */
+	void forEachOccupied(DayConsumer consumer);
+
+	/**
+	 * 달력을 {@code Map<LocalDate, Integer>} 형태의 읽기 전용 뷰로 반환합니다. 인원이 0인 날짜는 포함되지 않습니다.
+	 *
+	 * @return 읽기 전용 날짜별 인원 뷰
+	 */
+	default Map<LocalDate, Integer> asMap() {
+		return new OccupancyMapView(this);
+	}
+}
@@ -2,9 +2,9 @@ package com.gh.model;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.gh.user.Customer;
 import com.gh.service.BookingServiceImpl;
@@ -23,7 +23,8 @@ public class Guesthouse {
 	private int maxPeople; // 최대 수용 인원
 	private String description; // 게스트하우스 설명
 	private double totalSales; // 게스트하우스의 총 매출
-	private Map<LocalDate, Integer> dailyPeople = new HashMap<>();
+	private volatile DailyOccupancy calendar = new OccupancyCalendar(); // 날짜별 투숙 인원 (epoch day 기준)
+	private final List<OccupancyListener> listeners = new CopyOnWriteArrayList<>(); // 인원 변경 알림 대상
 	private List<String> features = new ArrayList<>(); // 게스트하우스 특성 목록 (예: 음악, 반려동물, 파티 등)
 
 	/**
@@ -140,17 +141,26 @@ public class Guesthouse {
 	/**
 	 * @param totalSales 게스트하우스의 총 매출 설정
 	 */
-	public void setTotalSales(double totalSales) {
+	public synchronized void setTotalSales(double totalSales) {
 		this.totalSales = totalSales;
 	}
 
 	/**
 	 * @return 게스트하우스의 총 매출 반환
 	 */
-	public double getTotalSales() {
+	public synchronized double getTotalSales() {
 		return totalSales;
 	}
 
+	/**
+	 * 총 매출에 금액을 더함 (환불은 음수)
+	 * 
+	 * @param amount 더할 금액
+	 */
+	public synchronized void addSales(double amount) {
+		totalSales += amount;
+	}
+
 	/**
 	 * 날짜별 인원 추가
 	 * 
@@ -159,12 +169,8 @@ public class Guesthouse {
 	 * @param numPeople 투숙인원수
 	 */
 	public void addPeople(LocalDate start, LocalDate end, int numPeople) {
-		LocalDate date = start;
-		while (!date.isAfter(end.minusDays(1))) {
-			int updated = dailyPeople.getOrDefault(date, 0) + numPeople;
-			dailyPeople.put(date, updated);
-			date = date.plusDays(1);
-		}
+		calendar.add(start.toEpochDay(), end.toEpochDay(), numPeople);
+		fireOccupancyChanged(start, end, numPeople);
 	}
 
 	/**
@@ -175,16 +181,8 @@ public class Guesthouse {
 	 * @param numPeople 투숙인원수
 	 */
 	public void removePeople(LocalDate start, LocalDate end, int numPeople) {
-		LocalDate date = start;
-		while (!date.isAfter(end.minusDays(1))) {
-			int updated = dailyPeople.getOrDefault(date, 0) - numPeople;
-			if (updated <= 0) {
-				dailyPeople.remove(date);
-			} else {
-				dailyPeople.put(date, updated);
-			}
-			date = date.plusDays(1);
-		}
+		calendar.remove(start.toEpochDay(), end.toEpochDay(), numPeople);
+		fireOccupancyChanged(start, end, -numPeople);
 	}
 
 	/**
@@ -196,17 +194,107 @@ public class Guesthouse {
 	 * @return 예약 가능 여부
 	 */
 	public boolean canBook(LocalDate start, LocalDate end, int numPeople) {
-		LocalDate date = start;
-		while (!date.isAfter(end.minusDays(1))) {
-			int current = dailyPeople.getOrDefault(date, 0);
-			if (current + numPeople > maxPeople) {
-				return false;
-			}
-			date = date.plusDays(1);
+		long startDay = start.toEpochDay();
+		long endDay = end.toEpochDay();
+		if (startDay >= endDay) {
+			return true;
 		}
+		return calendar.max(startDay, endDay) + numPeople <= maxPeople;
+	}
+
+	/**
+	 * 해당 날짜 구간에 자리가 있으면 인원을 추가 (확인과 추가를 한 번에 처리)
+	 *
+	 * @param start     체크인
+	 * @param end       체크아웃
+	 * @param numPeople 투숙인원수
+	 * @return 추가에 성공하면 true, 한 날짜라도 최대 수용 인원을 넘으면 false
+	 */
+	public boolean tryReserve(LocalDate start, LocalDate end, int numPeople) {
+		if (!calendar.tryReserve(start.toEpochDay(), end.toEpochDay(), numPeople, maxPeople)) {
+			return false;
+		}
+		fireOccupancyChanged(start, end, numPeople);
 		return true;
 	}
 
+	/**
+	 * 기존 예약 인원을 새 날짜 구간으로 옮김. 새 구간을 확인할 때 기존 예약의 자리는 빈 것으로 봄
+	 *
+	 * @param oldStart  기존 체크인
+	 * @param oldEnd    기존 체크아웃
+	 * @param oldPeople 기존 투숙인원수
+	 * @param newStart  새 체크인
+	 * @param newEnd    새 체크아웃
+	 * @param newPeople 새 투숙인원수
+	 * @return 옮기기에 성공하면 true, 실패하면 기존 예약이 그대로 유지되고 false
+	 */
+	public boolean tryMove(LocalDate oldStart, LocalDate oldEnd, int oldPeople, LocalDate newStart, LocalDate newEnd,
+			int newPeople) {
+		if (!calendar.tryMove(oldStart.toEpochDay(), oldEnd.toEpochDay(), oldPeople, newStart.toEpochDay(),
+				newEnd.toEpochDay(), newPeople, maxPeople)) {
+			return false;
+		}
+		fireOccupancyChanged(oldStart, oldEnd, -oldPeople);
+		fireOccupancyChanged(newStart, newEnd, newPeople);
+		return true;
+	}
+
+	/**
+	 * 날짜별 인원 저장 방식 변경
+	 * 
+	 * <p>
+	 * 낙관적 예약을 사용하면 날짜별 인원을 원자적 카운터에 저장하여 {@link #tryReserve(LocalDate, LocalDate, int)}가
+	 * 락 없이 CAS로 처리되고, 사용하지 않으면 구간 연산이 O(log n)인 세그먼트 트리에 저장함. 기존 인원은 그대로 옮겨지며, 변경
+	 * 중에는 다른 스레드가 인원을 변경하지 않아야 함
+	 * </p>
+	 * 
+	 * @param optimistic 낙관적 예약 사용 여부
+	 */
+	public synchronized void setOptimisticReservation(boolean optimistic) {
+		if (optimistic == isOptimisticReservation()) {
+			return;
+		}
+		DailyOccupancy migrated = optimistic ? new AtomicOccupancyCalendar() : new OccupancyCalendar();
+		calendar.forEachOccupied((epochDay, people) -> migrated.add(epochDay, epochDay + 1, people));
+		calendar = migrated;
+	}
+
+	/**
+	 * @return 낙관적 예약(원자적 카운터) 사용 여부
+	 */
+	public boolean isOptimisticReservation() {
+		return calendar instanceof AtomicOccupancyCalendar;
+	}
+
+	/**
+	 * 특정 날짜의 투숙 인원
+	 *
+	 * @param date 조회할 날짜
+	 * @return 투숙 인원, 예약이 없으면 0
+	 */
+	public int getOccupancy(LocalDate date) {
+		return calendar.get(date.toEpochDay());
+	}
+
+	/**
+	 * 날짜별 인원 변경 알림을 받을 리스너 등록
+	 * 
+	 * @param listener 등록할 리스너
+	 */
+	public void addOccupancyListener(OccupancyListener listener) {
+		listeners.add(listener);
+	}
+
+	private void fireOccupancyChanged(LocalDate start, LocalDate end, int delta) {
+		if (listeners.isEmpty() || !start.isBefore(end)) {
+			return;
+		}
+		for (OccupancyListener listener : listeners) {
+			listener.occupancyChanged(this, start.toEpochDay(), end.toEpochDay(), delta);
+		}
+	}
+
 	/**
 	 * 해당 게스트하우스에 대한 예약 수를 계산
 	 * 
@@ -224,9 +312,13 @@ public class Guesthouse {
 		return count;
 	}
 
-	// 필요 시 외부 접근용 getter
+	/**
+	 * 날짜별 투숙 인원을 읽기 전용 맵으로 반환 (인원이 있는 날짜만 포함)
+	 * 
+	 * @return 날짜별 투숙 인원 뷰
+	 */
 	public Map<LocalDate, Integer> getDailyPeople() {
-		return dailyPeople;
+		return calendar.asMap();
 	}
 
 	/**
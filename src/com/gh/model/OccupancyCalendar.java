@@ -0,0 +1,241 @@
+package com.gh.model;
+
+/**
+ * {@code OccupancyCalendar} 클래스는 게스트하우스의 날짜별 투숙 인원을 epoch day 기준의 세그먼트 트리로 관리합니다.
+ *
+ * <p>
+ * 날짜 구간은 항상 [체크인, 체크아웃) 형태의 반열린 구간으로 다룹니다. 구간 인원 추가와 구간 최대 인원 조회는 지연 갱신(lazy
+ * range-add)과 구간 최대값(range-max)을 사용하여 숙박일수와 관계없이 O(log n)에 처리됩니다. 트리가 다루는 날짜 범위는
+ * 필요에 따라 앞뒤로 두 배씩 자동 확장됩니다.
+ * </p>
+ *
+ * <p>
+ * 각 노드의 {@code lazy} 값은 하위로 전파하지 않고 그대로 보관하며, 노드의 최대/최소값은 해당 노드의 lazy 값까지 포함한 값입니다.
+ * 따라서 특정 날짜의 인원은 리프에서 루트까지의 lazy 값의 합입니다.
+ * </p>
+ *
+ * <p>
+ * 모든 공개 메서드는 달력 객체 단위로 동기화되어 여러 스레드에서 안전하게 호출할 수 있습니다. "확인 후 추가"는
+ * {@link #tryReserve(long, long, int, int)}를 쓰거나 호출하는 쪽에서 잠금을 잡아야 합니다.
+ * </p>
+ *
+ * @author 우승환
+ */
+public class OccupancyCalendar implements DailyOccupancy {
+	/** 최초 할당 시 다루는 날짜 수 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** 트리가 다루는 첫 번째 날짜 (epoch day) */
+	private long baseDay;
+	/** 트리가 다루는 날짜 수 (2의 거듭제곱, 0이면 비어 있음) */
+	private int size;
+	/** 노드별 구간 최대 인원 (자신의 lazy 포함) */
+	private int[] max = new int[0];
+	/** 노드별 구간 최소 인원 (자신의 lazy 포함) */
+	private int[] min = new int[0];
+	/** 노드 구간 전체에 더해진 인원 */
+	private int[] lazy = new int[0];
+
+	@Override
+	public synchronized int get(long epochDay) {
+		long idx = epochDay - baseDay;
+		if (idx < 0 || idx >= size) {
+			return 0;
+		}
+		int people = 0;
+		for (int node = size + (int) idx; node >= 1; node >>= 1) {
+			people += lazy[node];
+		}
+		return people;
+	}
+
+	@Override
+	public synchronized void add(long startDay, long endDay, int numPeople) {
+		if (startDay >= endDay) {
+			return;
+		}
+		ensureRange(startDay, endDay);
+		add(1, 0, size, (int) (startDay - baseDay), (int) (endDay - baseDay), numPeople);
+	}
+
+	@Override
+	public synchronized void remove(long startDay, long endDay, int numPeople) {
+		// 트리 범위 밖의 날짜는 이미 0이므로 겹치는 부분만 처리
+		long from = Math.max(startDay, baseDay);
+		long to = Math.min(endDay, baseDay + size);
+		if (from >= to) {
+			return;
+		}
+		int ql = (int) (from - baseDay);
+		int qr = (int) (to - baseDay);
+		add(1, 0, size, ql, qr, -numPeople);
+		clampNegative(1, 0, size, ql, qr, 0);
+	}
+
+	@Override
+	public synchronized int max(long startDay, long endDay) {
+		long from = Math.max(startDay, baseDay);
+		long to = Math.min(endDay, baseDay + size);
+		if (from >= to) {
+			return 0;
+		}
+		// 인원은 음수가 되지 않으므로 트리 범위 밖(0명)의 날짜는 0과의 비교로 충분
+		return Math.max(0, max(1, 0, size, (int) (from - baseDay), (int) (to - baseDay)));
+	}
+
+	@Override
+	public synchronized void forEachOccupied(DayConsumer consumer) {
+		if (size > 0) {
+			forEachOccupied(1, 0, size, 0, consumer);
+		}
+	}
+
+	@Override
+	public synchronized boolean tryReserve(long startDay, long endDay, int numPeople, int capacity) {
+		if (startDay < endDay && max(startDay, endDay) + numPeople > capacity) {
+			return false;
+		}
+		add(startDay, endDay, numPeople);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean tryMove(long oldStart, long oldEnd, int oldPeople, long newStart, long newEnd,
+			int newPeople, int capacity) {
+		remove(oldStart, oldEnd, oldPeople);
+		if (tryReserve(newStart, newEnd, newPeople, capacity)) {
+			return true;
+		}
+		add(oldStart, oldEnd, oldPeople);
+		return false;
+	}
+
+	private void add(int node, int nl, int nr, int ql, int qr, int value) {
+		if (qr <= nl || nr <= ql) {
+			return;
+		}
+		if (ql <= nl && nr <= qr) {
+			max[node] += value;
+			min[node] += value;
+			lazy[node] += value;
+			return;
+		}
+		int mid = (nl + nr) >>> 1;
+		add(node * 2, nl, mid, ql, qr, value);
+		add(node * 2 + 1, mid, nr, ql, qr, value);
+		pull(node);
+	}
+
+	private int max(int node, int nl, int nr, int ql, int qr) {
+		if (qr <= nl || nr <= ql) {
+			return Integer.MIN_VALUE;
+		}
+		if (ql <= nl && nr <= qr) {
+			return max[node];
+		}
+		int mid = (nl + nr) >>> 1;
+		return Math.max(max(node * 2, nl, mid, ql, qr), max(node * 2 + 1, mid, nr, ql, qr)) + lazy[node];
+	}
+
+	/**
+	 * 구간 내에서 0 미만으로 내려간 날짜를 0으로 맞춥니다. 음수인 날짜가 없으면 루트에서 바로 종료됩니다.
+	 *
+	 * @param acc 상위 노드들의 lazy 합
+	 */
+	private void clampNegative(int node, int nl, int nr, int ql, int qr, int acc) {
+		if (qr <= nl || nr <= ql || min[node] + acc >= 0) {
+			return;
+		}
+		if (nr - nl == 1) {
+			lazy[node] -= min[node] + acc;
+			max[node] = lazy[node];
+			min[node] = lazy[node];
+			return;
+		}
+		int mid = (nl + nr) >>> 1;
+		clampNegative(node * 2, nl, mid, ql, qr, acc + lazy[node]);
+		clampNegative(node * 2 + 1, mid, nr, ql, qr, acc + lazy[node]);
+		pull(node);
+	}
+
+	private void forEachOccupied(int node, int nl, int nr, int acc, DayConsumer consumer) {
+		if (max[node] + acc <= 0) {
+			return;
+		}
+		if (nr - nl == 1) {
+			consumer.accept(baseDay + nl, max[node] + acc);
+			return;
+		}
+		int mid = (nl + nr) >>> 1;
+		forEachOccupied(node * 2, nl, mid, acc + lazy[node], consumer);
+		forEachOccupied(node * 2 + 1, mid, nr, acc + lazy[node], consumer);
+	}
+
+	private void pull(int node) {
+		max[node] = Math.max(max[node * 2], max[node * 2 + 1]) + lazy[node];
+		min[node] = Math.min(min[node * 2], min[node * 2 + 1]) + lazy[node];
+	}
+
+	/**
+	 * [startDay, endDay)가 트리 범위에 들어오도록 트리를 확장하고 기존 값을 옮겨 다시 구성합니다.
+	 */
+	private void ensureRange(long startDay, long endDay) {
+		if (size == 0) {
+			baseDay = startDay;
+			allocate(capacityFor(Math.max(INITIAL_CAPACITY, endDay - startDay)));
+			return;
+		}
+		long currentEnd = baseDay + size;
+		if (startDay >= baseDay && endDay <= currentEnd) {
+			return;
+		}
+		int[] values = new int[size];
+		collect(1, 0, size, 0, values);
+
+		long needed = Math.max(currentEnd, endDay) - Math.min(baseDay, startDay);
+		int newSize = capacityFor(Math.max((long) size * 2, needed));
+		// 확장이 필요한 방향으로 여유 공간을 두어 재구성 횟수를 줄임
+		long newBase = startDay < baseDay ? Math.max(currentEnd, endDay) - newSize : baseDay;
+		int offset = (int) (baseDay - newBase);
+
+		baseDay = newBase;
+		allocate(newSize);
+		for (int i = 0; i < values.length; i++) {
+			int leaf = newSize + offset + i;
+			lazy[leaf] = values[i];
+			max[leaf] = values[i];
+			min[leaf] = values[i];
+		}
+		for (int node = newSize - 1; node >= 1; node--) {
+			pull(node);
+		}
+	}
+
+	private void collect(int node, int nl, int nr, int acc, int[] values) {
+		if (max[node] + acc == 0 && min[node] + acc == 0) {
+			return;
+		}
+		if (nr - nl == 1) {
+			values[nl] = max[node] + acc;
+			return;
+		}
+		int mid = (nl + nr) >>> 1;
+		collect(node * 2, nl, mid, acc + lazy[node], values);
+		collect(node * 2 + 1, mid, nr, acc + lazy[node], values);
+	}
+
+	private void allocate(int newSize) {
+		size = newSize;
+		max = new int[newSize * 2];
+		min = new int[newSize * 2];
+		lazy = new int[newSize * 2];
+	}
+
+	private static int capacityFor(long days) {
+		if (days > (1 << 30)) {
+			throw new IllegalArgumentException("예약 가능한 날짜 범위를 초과했습니다: " + days + "일");
+		}
+		int capacity = Integer.highestOneBit((int) days);
+		return capacity < days ? capacity << 1 : capacity;
+	}
+}
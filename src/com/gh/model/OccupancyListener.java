@@ -0,0 +1,22 @@
+package com.gh.model;
+
+/**
+ * {@code OccupancyListener}는 게스트하우스의 날짜별 투숙 인원이 바뀔 때 알림을 받는 리스너입니다.
+ *
+ * <p>
+ * 날짜 구간은 [startDay, endDay) 형태의 epoch day 반열린 구간이며, 인원 제거 시 {@code delta}는 음수입니다.
+ * </p>
+ *
+ * @author 우승환
+ */
+public interface OccupancyListener {
+	/**
+	 * 투숙 인원이 변경되었을 때 호출됩니다.
+	 *
+	 * @param gh       인원이 변경된 게스트하우스
+	 * @param startDay 체크인 (epoch day)
+	 * @param endDay   체크아웃 (epoch day, 미포함)
+	 * @param delta    변경된 인원 (추가는 양수, 제거는 음수)
+	 */
+	void occupancyChanged(Guesthouse gh, long startDay, long endDay, int delta);
+}
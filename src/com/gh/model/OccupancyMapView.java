@@ -0,0 +1,58 @@
+package com.gh.model;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기존 {@code dailyPeople} 맵을 사용하던 코드를 위해 {@link DailyOccupancy}를 {@code Map<LocalDate, Integer>}로
+ * 보여주는 읽기 전용 뷰입니다.
+ *
+ * @author 우승환
+ */
+class OccupancyMapView extends AbstractMap<LocalDate, Integer> {
+	private final DailyOccupancy occupancy;
+
+	OccupancyMapView(DailyOccupancy occupancy) {
+		this.occupancy = occupancy;
+	}
+
+	@Override
+	public Integer get(Object key) {
+		if (!(key instanceof LocalDate)) {
+			return null;
+		}
+		int people = occupancy.get(((LocalDate) key).toEpochDay());
+		return people > 0 ? people : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Set<Entry<LocalDate, Integer>> entrySet() {
+		return new AbstractSet<Entry<LocalDate, Integer>>() {
+			@Override
+			public Iterator<Entry<LocalDate, Integer>> iterator() {
+				List<Entry<LocalDate, Integer>> entries = new ArrayList<>();
+				occupancy.forEachOccupied((epochDay, people) -> entries
+						.add(new SimpleImmutableEntry<>(LocalDate.ofEpochDay(epochDay), people)));
+				return Collections.unmodifiableList(entries).iterator();
+			}
+
+			@Override
+			public int size() {
+				int[] count = { 0 };
+				occupancy.forEachOccupied((epochDay, people) -> count[0]++);
+				return count[0];
+			}
+		};
+	}
+}
@@ -0,0 +1,196 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.gh.model.Guesthouse;
+import com.gh.model.OccupancyListener;
+
+/**
+ * {@code AvailabilityEngine} 클래스는 등록된 전체 게스트하우스를 대상으로 "[체크인, 체크아웃) 기간에 N명을 받을 수 있는
+ * 숙소"를 찾는 검색 엔진입니다.
+ *
+ * <p>
+ * 게스트하우스마다 인원이 바뀌는 날짜(epoch day)와 그날부터의 인원을 계단 모양으로 모아 둔 색인을 유지합니다. 검색 시에는 최대
+ * 수용 인원으로 후보를 거른 뒤, 후보마다 요청 기간에 걸친 계단만 훑어 남은 자리가 부족한 후보를 제외합니다. 따라서 각 게스트하우스의
+ * 달력은 조회하지 않으며, 인원이 바뀌지 않는 날짜는 비용이 들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 색인은 {@link OccupancyListener}로 등록되어 게스트하우스의 인원 변경을 그대로 따라갑니다. 기간 단위로 알림을 받으면 기간의 양
+ * 끝에서만 계단을 나누고 그 사이의 계단에 인원을 한 번에 더하므로, 갱신 비용은 숙박일수가 아니라 기간 안에서 인원이 바뀌는 횟수에
+ * 비례합니다. 인원이 0 미만으로 내려가지 않도록 하는 규칙도 게스트하우스 달력과 동일합니다.
+ * </p>
+ *
+ * <p>
+ * 색인은 게스트하우스 단위로 동기화되므로 서로 다른 게스트하우스의 예약이 동시에 색인을 갱신해도 전역 락이 필요하지 않습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class AvailabilityEngine implements OccupancyListener {
+	/** 내부 번호(등록 순서) → 게스트하우스 색인 */
+	private final List<HouseIndex> houses = new CopyOnWriteArrayList<>();
+	/** 게스트하우스 → 색인 */
+	private final Map<Guesthouse, HouseIndex> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * 게스트하우스를 검색 대상으로 등록합니다. 이미 기록된 인원도 색인에 반영됩니다.
+	 *
+	 * @param gh 등록할 게스트하우스
+	 */
+	public synchronized void register(Guesthouse gh) {
+		if (indexes.containsKey(gh)) {
+			return;
+		}
+		HouseIndex index = new HouseIndex(gh);
+		houses.add(index);
+		indexes.put(gh, index);
+		gh.getDailyPeople().forEach((date, people) -> index.add(date.toEpochDay(), date.toEpochDay() + 1, people));
+		gh.addOccupancyListener(this);
+	}
+
+	@Override
+	public void occupancyChanged(Guesthouse gh, long startDay, long endDay, int delta) {
+		HouseIndex index = indexes.get(gh);
+		if (index != null) {
+			index.add(startDay, endDay, delta);
+		}
+	}
+
+	/**
+	 * 기간 내 모든 날짜에 N명을 더 받을 수 있는 게스트하우스를 추천 순서로 반환합니다.
+	 *
+	 * <p>
+	 * 기간 중 가장 적게 남은 자리가 많은 순, 같으면 1박당 가격이 낮은 순, 같으면 등록 순서로 정렬됩니다.
+	 * </p>
+	 *
+	 * @param start          체크인
+	 * @param end            체크아웃
+	 * @param numberOfPeople 투숙 인원 수
+	 * @return 예약 가능한 게스트하우스 목록
+	 */
+	public List<Guesthouse> findAvailable(LocalDate start, LocalDate end, int numberOfPeople) {
+		List<HouseIndex> snapshot = new ArrayList<>(houses);
+		int[] minFree = minFreeSeats(snapshot, start.toEpochDay(), end.toEpochDay(), numberOfPeople);
+		List<Integer> matched = new ArrayList<>();
+		for (int id = 0; id < minFree.length; id++) {
+			if (minFree[id] >= numberOfPeople) {
+				matched.add(id);
+			}
+		}
+		matched.sort(Comparator.<Integer>comparingInt(id -> -minFree[id])
+				.thenComparingDouble(id -> snapshot.get(id).gh.getPricePerDays()).thenComparingInt(id -> id));
+
+		List<Guesthouse> result = new ArrayList<>(matched.size());
+		for (int id : matched) {
+			result.add(snapshot.get(id).gh);
+		}
+		return result;
+	}
+
+	/**
+	 * 기간 내 모든 날짜에 N명을 더 받을 수 있는 게스트하우스 수를 반환합니다. 목록을 만들거나 정렬하지 않습니다.
+	 *
+	 * @param start          체크인
+	 * @param end            체크아웃
+	 * @param numberOfPeople 투숙 인원 수
+	 * @return 예약 가능한 게스트하우스 수
+	 */
+	public int countAvailable(LocalDate start, LocalDate end, int numberOfPeople) {
+		int count = 0;
+		for (int free : minFreeSeats(houses, start.toEpochDay(), end.toEpochDay(), numberOfPeople)) {
+			if (free >= numberOfPeople) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 게스트하우스별로 기간 중 가장 적게 남은 자리 수를 계산합니다. 최대 수용 인원이 부족한 숙소는 -1입니다.
+	 */
+	private static int[] minFreeSeats(List<HouseIndex> houses, long startDay, long endDay, int numberOfPeople) {
+		int[] minFree = new int[houses.size()];
+		int id = 0;
+		for (HouseIndex index : houses) {
+			if (id == minFree.length) {
+				break;
+			}
+			int capacity = index.gh.getMaxPeople();
+			if (capacity < numberOfPeople) {
+				minFree[id++] = -1;
+				continue;
+			}
+			int free = startDay >= endDay ? capacity : capacity - index.maxPeople(startDay, endDay);
+			minFree[id++] = free < numberOfPeople ? -1 : free;
+		}
+		return minFree;
+	}
+
+	/**
+	 * 게스트하우스 하나의 날짜별 인원을 인원이 바뀌는 날짜 → 그날부터의 인원으로 저장합니다. 첫 날짜 이전은 0명이며, 이웃한 두 계단의
+	 * 인원은 항상 다릅니다.
+	 */
+	private static final class HouseIndex {
+		private final Guesthouse gh;
+		private final TreeMap<Long, Integer> steps = new TreeMap<>();
+
+		HouseIndex(Guesthouse gh) {
+			this.gh = gh;
+		}
+
+		/**
+		 * [startDay, endDay) 기간의 인원을 변경합니다. 양 끝에서만 계단을 나누고 그 사이의 계단에 한 번에 더합니다.
+		 */
+		synchronized void add(long startDay, long endDay, int delta) {
+			if (startDay >= endDay || delta == 0) {
+				return;
+			}
+			// 기간 뒤의 인원이 바뀌지 않도록 끝 날짜에 경계를 먼저 둠
+			steps.putIfAbsent(endDay, peopleAt(endDay));
+			steps.putIfAbsent(startDay, peopleAt(startDay));
+
+			Map.Entry<Long, Integer> before = steps.lowerEntry(startDay);
+			int previous = before == null ? 0 : before.getValue();
+			Iterator<Map.Entry<Long, Integer>> it = steps.subMap(startDay, true, endDay, false).entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<Long, Integer> step = it.next();
+				int people = Math.max(0, step.getValue() + delta);
+				if (people == previous) {
+					it.remove();
+				} else {
+					step.setValue(people);
+					previous = people;
+				}
+			}
+			// 끝 날짜부터의 인원이 기간 마지막 계단과 같아졌으면 경계 제거
+			if (steps.get(endDay) == previous) {
+				steps.remove(endDay);
+			}
+		}
+
+		/**
+		 * @return [startDay, endDay) 기간 중 가장 많은 인원
+		 */
+		synchronized int maxPeople(long startDay, long endDay) {
+			int max = peopleAt(startDay);
+			for (int people : steps.subMap(startDay, false, endDay, false).values()) {
+				max = Math.max(max, people);
+			}
+			return max;
+		}
+
+		private int peopleAt(long day) {
+			Map.Entry<Long, Integer> step = steps.floorEntry(day);
+			return step == null ? 0 : step.getValue();
+		}
+	}
+}
@@ -0,0 +1,290 @@
+package com.gh.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+import com.gh.user.Customer;
+
+/**
+ * {@code BTreeBookingRepository} 클래스는 예약을 하나의 디스크 B-트리 파일({@link DiskBTree})에 저장하는
+ * {@link BookingRepository} 구현체입니다.
+ *
+ * <p>
+ * 파일에는 두 개의 트리가 있습니다. 기본 트리는 예약 ID로 예약의 마지막 상태를 찾고, 보조 트리는 (게스트하우스 ID, 체크인 날짜,
+ * 예약 ID) 순으로 정렬된 키만 가지므로 한 숙소의 기간별 예약을 파일 전체를 읽지 않고 순서대로 찾을 수 있습니다. 예약의 게스트하우스나
+ * 체크인 날짜가 바뀌면 이전 보조 키를 지웁니다.
+ * </p>
+ *
+ * <p>
+ * 저장 시점과 디스크 반영 수준은 CSV 저널과 같은 설정({@link BookingFileManager#getDurability()})을 따릅니다.
+ * {@link Durability#ASYNC}, {@link Durability#ASYNC_FORCE}이면 지연 기록 단계({@link BookingWriteBehind})에 넘기고 바로
+ * 반환하며, 기록 스레드가 모인 이벤트를 트리에 반영합니다. {@link Durability#ASYNC_FORCE}이면 반영할 때마다 변경된 페이지를
+ * 디스크에 기록하고, {@link Durability#ASYNC}이면 {@link #flush()}나 종료 훅에서 기록합니다. {@link Durability#GROUP_COMMIT},
+ * {@link Durability#SYNC}이면 변경된 페이지가 디스크에 반영될 때까지 기다리며, 기록에 실패하면 {@link UncheckedIOException}을
+ * 던집니다. 조회는 앞서 저장을 요청한 이벤트를 모두 반영한 뒤 처리합니다. CSV 저널에 저장된 기존 예약은 옮기지 않습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BTreeBookingRepository implements BookingRepository {
+	/** 기본 색인 파일 */
+	public static final String DEFAULT_FILE = "bookings.btree";
+
+	private static final int PRIMARY = 0;
+	private static final int BY_GUESTHOUSE = 1;
+	/** 메모리에 둘 페이지 수 (4 MiB) */
+	private static final int CACHE_PAGES = 1024;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final DiskBTree tree;
+	/** 저장 요청을 모아 백그라운드에서 트리에 반영하는 단계 */
+	private final BookingWriteBehind writeBehind;
+
+	/**
+	 * 기본 파일({@value #DEFAULT_FILE})을 열거나 새로 만듭니다.
+	 *
+	 * @throws IOException 파일을 열 수 없거나 색인 파일 형식이 아닌 경우
+	 */
+	public BTreeBookingRepository() throws IOException {
+		this(Paths.get(DEFAULT_FILE));
+	}
+
+	/**
+	 * @param file 색인 파일
+	 * @throws IOException 파일을 열 수 없거나 색인 파일 형식이 아닌 경우
+	 */
+	public BTreeBookingRepository(Path file) throws IOException {
+		this.tree = new DiskBTree(file, 2, CACHE_PAGES);
+		this.writeBehind = new BookingWriteBehind(
+				events -> apply(events, BookingFileManager.getDurability() != Durability.ASYNC), 100,
+				"booking-btree-writer");
+		// 정상 종료 시 아직 반영되지 않은 이벤트와 변경된 페이지를 모두 기록
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				flush();
+			} catch (UncheckedIOException e) {
+				System.out.println("종료 중 예약 색인 기록 실패: " + e.getMessage());
+			}
+		}, "booking-btree-flush"));
+	}
+
+	/**
+	 * @throws UncheckedIOException {@link Durability#GROUP_COMMIT}, {@link Durability#SYNC}에서 트리에 반영하거나 디스크에
+	 *                              기록하지 못한 경우
+	 */
+	@Override
+	public void save(List<BookingEvent> events) {
+		switch (BookingFileManager.getDurability()) {
+		case GROUP_COMMIT:
+			writeBehind.submitAndWait(events);
+			break;
+		case SYNC:
+			writeBehind.flush();
+			apply(events, true);
+			break;
+		default:
+			writeBehind.submit(events);
+		}
+	}
+
+	/**
+	 * @throws UncheckedIOException 트리에 반영하지 못한 이벤트가 있거나 변경된 페이지를 디스크에 기록하지 못한 경우
+	 */
+	@Override
+	public void flush() {
+		writeBehind.flush();
+		try {
+			tree.flush();
+		} catch (IOException e) {
+			System.out.println("예약 색인 기록 중 오류 발생: " + e.getMessage());
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 예약 이벤트들을 순서대로 트리에 반영합니다.
+	 *
+	 * @param events 반영할 예약 이벤트 목록
+	 * @param force  반영 후 변경된 페이지를 디스크에 기록할지 여부
+	 * @throws UncheckedIOException 트리에 반영하거나 디스크에 기록하지 못한 경우
+	 */
+	private synchronized void apply(List<BookingEvent> events, boolean force) {
+		try {
+			for (BookingEvent e : events) {
+				Booking b = e.getBooking();
+				BookingRecord record = BookingRecord.of(b, e.getCustomer() == null ? null : e.getCustomer().getEmail());
+				byte[] id = utf8(record.getBookingId());
+
+				byte[] previous = tree.get(PRIMARY, id);
+				if (previous != null) {
+					BookingRecord old = decode(record.getBookingId(), previous);
+					if (!old.getGuesthouseId().equals(record.getGuesthouseId())
+							|| old.getStartDay() != record.getStartDay()) {
+						tree.remove(BY_GUESTHOUSE, guesthouseKey(old.getGuesthouseId(), old.getStartDay(), id));
+					}
+				}
+				tree.put(PRIMARY, id, encode(record));
+				tree.put(BY_GUESTHOUSE, guesthouseKey(record.getGuesthouseId(), record.getStartDay(), id), EMPTY);
+			}
+			if (force) {
+				tree.flush();
+			}
+		} catch (IOException e) {
+			System.out.println("예약 색인 기록 중 오류 발생: " + e.getMessage());
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public List<Booking> load(List<Customer> customers, List<Guesthouse> guesthouseList, LocalDate from,
+			LocalDate to) {
+		// 같은 ID가 여러 번 있으면 먼저 나온 게스트하우스, 고객
+		Map<String, Guesthouse> byId = new HashMap<>();
+		for (Guesthouse g : guesthouseList) {
+			byId.putIfAbsent(g.getBookingId(), g);
+		}
+		Map<String, Customer> byEmail = new HashMap<>();
+		for (Customer c : customers) {
+			byEmail.putIfAbsent(c.getEmail(), c);
+		}
+
+		List<Booking> loaded = new ArrayList<>();
+		for (Map.Entry<String, Guesthouse> entry : byId.entrySet()) {
+			for (BookingRecord r : findByGuesthouse(entry.getKey(), from, to)) {
+				Customer customer = r.getCustomerEmail() == null ? null : byEmail.get(r.getCustomerEmail());
+				if (customer == null) {
+					System.out.println("[" + DEFAULT_FILE + "] 이메일 " + r.getCustomerEmail() + "에 해당하는 고객이 없습니다.");
+					continue;
+				}
+				Booking booking = r.toBooking(entry.getValue());
+				booking.setCustomer(customer);
+				loaded.add(booking);
+			}
+		}
+		return loaded;
+	}
+
+	@Override
+	public BookingRecord findById(String bookingId) {
+		writeBehind.flush();
+		return read(bookingId);
+	}
+
+	@Override
+	public List<BookingRecord> findByGuesthouse(String guesthouseId, LocalDate from, LocalDate to) {
+		writeBehind.flush();
+		byte[] prefix = utf8(guesthouseId);
+		byte[] fromKey = guesthouseKey(guesthouseId, from == null ? Integer.MIN_VALUE : from.toEpochDay(), EMPTY);
+		// 끝 날짜의 다음 날 전까지, 끝 날짜가 없으면 게스트하우스 ID 뒤의 구분 바이트가 0보다 큰 키 전까지
+		byte[] toKey;
+		if (to != null) {
+			toKey = guesthouseKey(guesthouseId, to.toEpochDay() + 1, EMPTY);
+		} else {
+			toKey = ByteBuffer.allocate(prefix.length + 1).put(prefix).put((byte) 1).array();
+		}
+
+		try {
+			Set<String> ids = new LinkedHashSet<>();
+			tree.scan(BY_GUESTHOUSE, fromKey, toKey, (key, value) -> ids.add(
+					new String(key, prefix.length + 5, key.length - prefix.length - 5, StandardCharsets.UTF_8)));
+			List<BookingRecord> found = new ArrayList<>(ids.size());
+			for (String id : ids) {
+				BookingRecord r = read(id);
+				if (r != null) {
+					found.add(r);
+				}
+			}
+			return found;
+		} catch (IOException e) {
+			System.out.println("예약 색인 읽기 오류: " + e.getMessage());
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * 트리에 반영된 예약을 예약 ID로 찾습니다. 반영을 기다리는 이벤트는 보지 않습니다.
+	 */
+	private BookingRecord read(String bookingId) {
+		try {
+			byte[] value = tree.get(PRIMARY, utf8(bookingId));
+			return value == null ? null : decode(bookingId, value);
+		} catch (IOException e) {
+			System.out.println("예약 색인 읽기 오류: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 변경된 페이지를 기록하고 색인 파일을 닫습니다.
+	 *
+	 * @throws IOException 파일에 쓸 수 없는 경우
+	 */
+	public void close() throws IOException {
+		writeBehind.flush();
+		tree.close();
+	}
+
+	/**
+	 * 보조 키: 게스트하우스 ID, 구분 바이트 0, 체크인 epoch day (부호 비트를 뒤집은 4바이트, 바이트 순서가 날짜 순서와 같음), 예약 ID
+	 */
+	private static byte[] guesthouseKey(String guesthouseId, long startDay, byte[] id) {
+		byte[] gh = utf8(guesthouseId);
+		return ByteBuffer.allocate(gh.length + 5 + id.length).put(gh).put((byte) 0)
+				.putInt((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, startDay)) ^ Integer.MIN_VALUE)
+				.put(id).array();
+	}
+
+	private static byte[] encode(BookingRecord r) {
+		byte[] gh = utf8(r.getGuesthouseId());
+		byte[] email = r.getCustomerEmail() == null ? null : utf8(r.getCustomerEmail());
+		ByteBuffer buf = ByteBuffer
+				.allocate(8 + 8 + 4 + 4 + 1 + 8 + 2 + gh.length + 2 + (email == null ? 0 : email.length));
+		buf.putLong(r.getStartDay()).putLong(r.getEndDay()).putInt(r.getBookingDays()).putInt(r.getNumberOfPeople())
+				.put((byte) (r.isCancelled() ? 1 : 0)).putDouble(r.getTotalAmount());
+		buf.putShort((short) gh.length).put(gh);
+		// 이메일이 없으면 길이를 -1로 기록
+		buf.putShort((short) (email == null ? -1 : email.length));
+		if (email != null) {
+			buf.put(email);
+		}
+		return buf.array();
+	}
+
+	private static BookingRecord decode(String bookingId, byte[] value) {
+		ByteBuffer buf = ByteBuffer.wrap(value);
+		long startDay = buf.getLong();
+		long endDay = buf.getLong();
+		int bookingDays = buf.getInt();
+		int numberOfPeople = buf.getInt();
+		boolean cancelled = buf.get() == 1;
+		double totalAmount = buf.getDouble();
+		String guesthouseId = readString(buf, buf.getShort());
+		short emailLength = buf.getShort();
+		String email = emailLength < 0 ? null : readString(buf, emailLength);
+		return new BookingRecord(bookingId, startDay, endDay, bookingDays, numberOfPeople, cancelled, guesthouseId,
+				email, totalAmount);
+	}
+
+	private static String readString(ByteBuffer buf, int length) {
+		String s = new String(buf.array(), buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return s;
+	}
+
+	private static byte[] utf8(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+}
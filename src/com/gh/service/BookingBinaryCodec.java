@@ -0,0 +1,307 @@
+package com.gh.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@code BookingBinaryCodec} 클래스는 예약 레코드를 고정 길이 바이너리 형식으로 저장하고 읽으며, 기존 CSV 파일과의 변환을
+ * 제공합니다.
+ *
+ * <p>
+ * 파일은 머리부, 사전(게스트하우스 ID, 고객 이메일, UUID 형식이 아닌 예약 ID), 고정 길이 레코드 순서로 구성됩니다. 레코드
+ * 하나는 {@value #RECORD_BYTES}바이트이며 다음과 같이 저장됩니다.
+ * </p>
+ * <ul>
+ * <li>예약 ID: UUID의 상위/하위 64비트 (UUID가 아니면 예약 ID 사전 번호)</li>
+ * <li>체크인, 체크아웃: epoch day (int)</li>
+ * <li>숙박일수, 인원 수: short</li>
+ * <li>취소 여부 등 플래그: 비트로 묶은 byte</li>
+ * <li>게스트하우스: 사전 번호 (unsigned short), 고객: 사전 번호 (int, 없으면 -1)</li>
+ * <li>총 결제 금액: double</li>
+ * </ul>
+ *
+ * <p>
+ * 문자열 파싱 없이 바이트 버퍼에서 바로 값을 읽으므로 CSV보다 빠르게 읽히고, 반복되는 이메일과 게스트하우스 ID는 한 번만 저장되어
+ * 파일 크기도 CSV의 일부에 불과합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingBinaryCodec {
+	/** 파일 시작 표시 ("GHB1") */
+	public static final int MAGIC = 0x47484231;
+	/** 레코드 하나의 크기 (바이트) */
+	public static final int RECORD_BYTES = 43;
+
+	/** 취소된 예약 */
+	private static final int FLAG_CANCELLED = 1;
+	/** 예약 ID가 UUID 형식이 아니어서 사전에 저장됨 */
+	private static final int FLAG_ID_IN_DICTIONARY = 1 << 1;
+
+	private BookingBinaryCodec() {
+	}
+
+	/**
+	 * 예약 레코드를 바이너리 파일로 저장합니다. 기존 파일은 덮어씁니다.
+	 *
+	 * @param file    저장할 파일
+	 * @param records 예약 레코드 목록
+	 * @throws IOException              파일 쓰기에 실패한 경우
+	 * @throws IllegalArgumentException 숙박일수나 인원 수가 short 범위를 넘거나 게스트하우스가 65,535개를 넘는 경우
+	 */
+	public static void write(Path file, Collection<BookingRecord> records) throws IOException {
+		Files.write(file, encode(records).array());
+	}
+
+	/**
+	 * 예약 레코드를 바이너리 형식으로 인코딩합니다.
+	 *
+	 * @param records 예약 레코드 목록
+	 * @return 인코딩된 바이트 (position 0부터 limit까지)
+	 */
+	public static ByteBuffer encode(Collection<BookingRecord> records) {
+		Dictionary guesthouses = new Dictionary();
+		Dictionary customers = new Dictionary();
+		Dictionary ids = new Dictionary();
+		for (BookingRecord r : records) {
+			guesthouses.idOf(r.getGuesthouseId());
+			if (r.getCustomerEmail() != null) {
+				customers.idOf(r.getCustomerEmail());
+			}
+			if (toUuid(r.getBookingId()) == null) {
+				ids.idOf(r.getBookingId());
+			}
+		}
+		if (guesthouses.size() > 0xFFFF) {
+			throw new IllegalArgumentException("게스트하우스 수가 너무 많습니다: " + guesthouses.size());
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate(8 + guesthouses.bytes() + customers.bytes() + ids.bytes()
+				+ records.size() * RECORD_BYTES);
+		buf.putInt(MAGIC);
+		buf.putInt(records.size());
+		guesthouses.writeTo(buf);
+		customers.writeTo(buf);
+		ids.writeTo(buf);
+
+		for (BookingRecord r : records) {
+			int flags = r.isCancelled() ? FLAG_CANCELLED : 0;
+			UUID uuid = toUuid(r.getBookingId());
+			if (uuid != null) {
+				buf.putLong(uuid.getMostSignificantBits());
+				buf.putLong(uuid.getLeastSignificantBits());
+			} else {
+				flags |= FLAG_ID_IN_DICTIONARY;
+				buf.putLong(ids.idOf(r.getBookingId()));
+				buf.putLong(0);
+			}
+			buf.putInt(Math.toIntExact(r.getStartDay()));
+			buf.putInt(Math.toIntExact(r.getEndDay()));
+			buf.putShort(toShort(r.getBookingDays()));
+			buf.putShort(toShort(r.getNumberOfPeople()));
+			buf.put((byte) flags);
+			buf.putShort((short) guesthouses.idOf(r.getGuesthouseId()));
+			buf.putInt(r.getCustomerEmail() == null ? -1 : customers.idOf(r.getCustomerEmail()));
+			buf.putDouble(r.getTotalAmount());
+		}
+		buf.flip();
+		return buf;
+	}
+
+	/**
+	 * 바이너리 파일에서 예약 레코드를 읽습니다.
+	 *
+	 * @param file 읽을 파일
+	 * @return 저장된 순서의 예약 레코드 목록
+	 * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+	 */
+	public static List<BookingRecord> read(Path file) throws IOException {
+		return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+	}
+
+	/**
+	 * 바이너리 형식의 바이트를 예약 레코드로 디코딩합니다.
+	 *
+	 * @param buf 인코딩된 바이트
+	 * @return 저장된 순서의 예약 레코드 목록
+	 * @throws IOException 형식이 올바르지 않은 경우
+	 */
+	public static List<BookingRecord> decode(ByteBuffer buf) throws IOException {
+		if (!isBinary(buf)) {
+			throw new IOException("예약 바이너리 파일 형식이 아닙니다.");
+		}
+		try {
+			buf.getInt();
+			int count = buf.getInt();
+			String[] guesthouses = Dictionary.readFrom(buf);
+			String[] customers = Dictionary.readFrom(buf);
+			String[] ids = Dictionary.readFrom(buf);
+			if (buf.remaining() < (long) count * RECORD_BYTES) {
+				throw new IOException("예약 바이너리 파일이 잘렸습니다.");
+			}
+
+			List<BookingRecord> records = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				long msb = buf.getLong();
+				long lsb = buf.getLong();
+				int startDay = buf.getInt();
+				int endDay = buf.getInt();
+				int bookingDays = buf.getShort();
+				int numberOfPeople = buf.getShort();
+				int flags = buf.get();
+				String guesthouseId = guesthouses[buf.getShort() & 0xFFFF];
+				int customer = buf.getInt();
+				double totalAmount = buf.getDouble();
+
+				String bookingId = (flags & FLAG_ID_IN_DICTIONARY) != 0 ? ids[(int) msb] : new UUID(msb, lsb).toString();
+				records.add(new BookingRecord(bookingId, startDay, endDay, bookingDays, numberOfPeople,
+						(flags & FLAG_CANCELLED) != 0, guesthouseId, customer < 0 ? null : customers[customer],
+						totalAmount));
+			}
+			return records;
+		} catch (RuntimeException e) {
+			throw new IOException("예약 바이너리 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param buf 파일 내용
+	 * @return 예약 바이너리 형식으로 시작하면 {@code true} (position은 바뀌지 않음)
+	 */
+	public static boolean isBinary(ByteBuffer buf) {
+		return buf.remaining() >= 4 && buf.getInt(buf.position()) == MAGIC;
+	}
+
+	/**
+	 * 예약 CSV 파일({@link BookingRecord#CSV_HEADER} 형식)을 바이너리 파일로 변환합니다. CSV에는 결제 금액이 없으므로 0으로
+	 * 저장됩니다.
+	 *
+	 * @param csv    읽을 CSV 파일
+	 * @param binary 저장할 바이너리 파일
+	 * @return 변환한 예약 수
+	 * @throws IOException 파일 읽기/쓰기에 실패한 경우
+	 */
+	public static int csvToBinary(Path csv, Path binary) throws IOException {
+		List<BookingRecord> records = new ArrayList<>();
+		try (BufferedReader br = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			String line;
+
+			// 첫 줄 헤더 스킵
+			br.readLine();
+
+			while ((line = br.readLine()) != null) {
+				String[] parts = line.split(",");
+				if (parts.length < 7)
+					continue;
+				records.add(BookingRecord.parse(parts, 0));
+			}
+		}
+		write(binary, records);
+		return records.size();
+	}
+
+	/**
+	 * 바이너리 파일을 예약 CSV 파일({@link BookingRecord#CSV_HEADER} 형식)로 변환합니다.
+	 *
+	 * @param binary 읽을 바이너리 파일
+	 * @param csv    저장할 CSV 파일
+	 * @return 변환한 예약 수
+	 * @throws IOException 파일 읽기/쓰기에 실패한 경우
+	 */
+	public static int binaryToCsv(Path binary, Path csv) throws IOException {
+		List<BookingRecord> records = read(binary);
+		try (BufferedWriter bw = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+			bw.write(BookingRecord.CSV_HEADER);
+			bw.newLine();
+			for (BookingRecord r : records) {
+				bw.write(r.toCsvLine());
+				bw.newLine();
+			}
+		}
+		return records.size();
+	}
+
+	/**
+	 * 표준 형식으로 다시 출력했을 때 같은 문자열이 되는 UUID만 변환합니다.
+	 */
+	private static UUID toUuid(String id) {
+		if (id.length() != 36) {
+			return null;
+		}
+		try {
+			UUID uuid = UUID.fromString(id);
+			return uuid.toString().equals(id) ? uuid : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static short toShort(int value) {
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("short 범위를 벗어난 값입니다: " + value);
+		}
+		return (short) value;
+	}
+
+	/**
+	 * 문자열에 등장 순서대로 번호를 붙이는 사전입니다. 개수(int) 다음에 문자열마다 길이(unsigned short)와 UTF-8 바이트로
+	 * 저장됩니다.
+	 */
+	private static final class Dictionary {
+		private final Map<String, Integer> ids = new LinkedHashMap<>();
+		private final List<byte[]> encoded = new ArrayList<>();
+		private int bytes = 4;
+
+		int idOf(String value) {
+			Integer id = ids.get(value);
+			if (id == null) {
+				byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+				if (utf8.length > 0xFFFF) {
+					throw new IllegalArgumentException("문자열이 너무 깁니다: " + value);
+				}
+				id = ids.size();
+				ids.put(value, id);
+				encoded.add(utf8);
+				bytes += 2 + utf8.length;
+			}
+			return id;
+		}
+
+		int size() {
+			return ids.size();
+		}
+
+		int bytes() {
+			return bytes;
+		}
+
+		void writeTo(ByteBuffer buf) {
+			buf.putInt(encoded.size());
+			for (byte[] utf8 : encoded) {
+				buf.putShort((short) utf8.length);
+				buf.put(utf8);
+			}
+		}
+
+		static String[] readFrom(ByteBuffer buf) {
+			String[] values = new String[buf.getInt()];
+			for (int i = 0; i < values.length; i++) {
+				byte[] utf8 = new byte[buf.getShort() & 0xFFFF];
+				buf.get(utf8);
+				values[i] = new String(utf8, StandardCharsets.UTF_8);
+			}
+			return values;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.gh.service;
+
+import java.time.Instant;
+
+/**
+ * {@code BookingChange} 클래스는 예약 변경 스트림({@link BookingChangeStream})의 항목 하나를 나타냅니다. 항목마다 1부터
+ * 1씩 커지는 순번이 붙으므로, 구독하는 쪽은 마지막으로 처리한 순번만 저장해 두면 이후의 변경만 이어서 처리할 수 있습니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingChange {
+
+	/**
+	 * 예약 변경 종류입니다.
+	 */
+	public enum Type {
+		/** 예약 생성 */
+		CREATED,
+		/** 예약 변경 */
+		UPDATED,
+		/** 예약 취소 */
+		CANCELLED,
+		/** 수용 인원 초과로 대기열에 등록됨 (예약 ID는 대기 요청의 ID이며, 자동 예약 시 새 ID가 부여됨) */
+		WAITLISTED,
+		/** 대기열의 요청이 자동으로 예약됨 */
+		PROMOTED,
+		/** 대기 요청이 체크인 날짜나 고객이 정한 기한이 지나 대기열에서 제거됨 (예약 ID는 대기 요청의 ID) */
+		EXPIRED
+	}
+
+	private final long sequence;
+	private final Type type;
+	private final Instant timestamp;
+	private final BookingRecord record;
+
+	/**
+	 * @param sequence  순번
+	 * @param type      변경 종류
+	 * @param timestamp 변경 시각
+	 * @param record    변경 이후의 예약 정보
+	 */
+	public BookingChange(long sequence, Type type, Instant timestamp, BookingRecord record) {
+		this.sequence = sequence;
+		this.type = type;
+		this.timestamp = timestamp;
+		this.record = record;
+	}
+
+	/**
+	 * @return 순번 (1부터 시작, 스트림 안에서 증가)
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * @return 변경 종류
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return 변경 시각
+	 */
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return 변경 이후의 예약 정보
+	 */
+	public BookingRecord getRecord() {
+		return record;
+	}
+
+	/**
+	 * {@link BookingChangeStream#HEADER} 형식의 한 줄을 변경 항목으로 변환합니다.
+	 *
+	 * @param line 변경 로그 한 줄
+	 * @return 변경 항목
+	 * @throws RuntimeException 칸이 부족하거나 형식이 올바르지 않은 경우
+	 */
+	public static BookingChange parse(String line) {
+		String[] parts = line.split(",", -1);
+		if (parts.length < 12) {
+			throw new IllegalArgumentException("변경 로그 칸이 부족합니다: " + line);
+		}
+		return new BookingChange(Long.parseLong(parts[0].trim()), Type.valueOf(parts[1].trim()),
+				Instant.ofEpochMilli(Long.parseLong(parts[2].trim())), BookingRecord.parse(parts, 3));
+	}
+
+	/**
+	 * @return {@link BookingChangeStream#HEADER} 형식의 한 줄
+	 */
+	public String toLine() {
+		return String.join(", ", String.valueOf(sequence), type.name(), String.valueOf(timestamp.toEpochMilli()),
+				record.toCsvLine(), String.valueOf(record.getTotalAmount()));
+	}
+
+	@Override
+	public String toString() {
+		return "BookingChange [sequence=" + sequence + ", type=" + type + ", record=" + record + "]";
+	}
+}
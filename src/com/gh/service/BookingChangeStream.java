@@ -0,0 +1,425 @@
+package com.gh.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import com.gh.model.Booking;
+import com.gh.user.Customer;
+
+/**
+ * {@code BookingChangeStream} 클래스는 예약 생성, 변경, 취소, 대기 등록, 대기열 자동 예약을 순번이 붙은 하나의 순서로
+ * 내보내는 변경 스트림입니다.
+ *
+ * <p>
+ * {@link #publish(BookingChange.Type, Booking, Customer)}는 순번을 붙여 전달 큐에 넣기만 하고 파일에 쓰지 않으므로, 예약
+ * 서비스는 변경을 적용하는 락 안에서 호출하여 순번이 변경이 적용된 순서와 같게 합니다. 전용 전달 스레드가 순번 순서대로 로그
+ * 파일({@value #DEFAULT_FILE})의 끝에 한 줄씩 추가하고 구독자에게 전달하므로, 파일의 순번은 항상 증가하고 느린 구독자가 예약
+ * 처리를 막지 않습니다. 다른 프로세스는 {@link #readChanges(Path, long)}로 저장해 둔 순번 이후의 변경만 읽을 수 있으며, 이때
+ * 파일을 처음부터 읽지 않고 순번으로 이진 탐색한 위치부터 읽습니다. 같은 프로세스에서는 {@link #subscribe(long, Consumer)}로
+ * 구독하며, 지정한 순번 이후의 기록된 변경을 먼저 받은 뒤 새 변경을 이어서 받습니다. 순번은 재시작 후에도 로그 파일의 마지막
+ * 순번부터 이어집니다.
+ * </p>
+ *
+ * <p>
+ * 로그 파일은 디스크에 강제로 반영하지 않습니다. 예약 상태의 기준은 예약 저장소이며, 이 스트림은 변경을 알리는 용도입니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingChangeStream {
+	/** 기본 변경 로그 파일 */
+	public static final String DEFAULT_FILE = "booking-changes.log";
+	/** 변경 로그 파일 헤더 */
+	public static final String HEADER = "sequence,type,timestamp,bookingId,startDate,endDate,bookingDays,numberOfPeople,isCancelled,guesthouseId,customerEmail,totalAmount";
+
+	private final Path file;
+	private BufferedWriter writer;
+	/** 마지막으로 붙인 순번 (파일을 열기 전에는 -1) */
+	private long lastSequence = -1;
+	private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+	/** 구독자 등록과 변경 전달을 순서대로 처리할 작업 */
+	private final BlockingQueue<Runnable> dispatch = new LinkedBlockingQueue<>();
+
+	/**
+	 * 전달 스레드(데몬)를 시작합니다. 로그 파일은 첫 변경을 기록할 때 엽니다.
+	 *
+	 * @param file 변경 로그 파일
+	 */
+	public BookingChangeStream(Path file) {
+		this.file = file;
+		Thread dispatcher = new Thread(this::dispatchLoop, "booking-change-dispatcher");
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+
+	/**
+	 * 변경에 다음 순번을 붙이고, 전달 스레드가 로그 파일에 기록하고 구독자에게 전달하도록 요청합니다. 파일에 쓰지 않고 바로
+	 * 반환하므로 변경을 적용하는 락 안에서 호출할 수 있습니다.
+	 *
+	 * @param type     변경 종류
+	 * @param booking  변경 이후의 예약
+	 * @param customer 예약한 고객
+	 * @return 순번을 붙인 변경 항목
+	 */
+	public synchronized BookingChange publish(BookingChange.Type type, Booking booking, Customer customer) {
+		BookingRecord r = BookingRecord.of(booking, customer.getEmail());
+		try {
+			open();
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 예약 변경 로그 열기 오류: " + e.getMessage());
+			lastSequence = Math.max(lastSequence, 0);
+		}
+		BookingChange change = new BookingChange(++lastSequence, type, Instant.now(), r);
+
+		// 순번을 붙이는 것과 같은 락 안에서 큐에 넣으므로 파일과 구독자에게는 순번 순서대로 전달됨
+		dispatch.add(() -> {
+			write(change);
+			for (Subscription s : subscribers) {
+				s.deliver(change);
+			}
+		});
+		return change;
+	}
+
+	/**
+	 * 지금까지 발행한 변경이 로그 파일에 기록되고 구독자에게 전달될 때까지 기다립니다.
+	 */
+	public void flush() {
+		CountDownLatch done = new CountDownLatch(1);
+		dispatch.add(() -> {
+			flushWriter();
+			done.countDown();
+		});
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 순번이 {@code afterSequence}보다 큰 변경을 순서대로 받도록 구독합니다. 이미 기록된 변경을 먼저 전달한 뒤 새 변경을
+	 * 전달하며, 같은 변경은 한 번만 전달합니다. 구독자의 예외는 출력하고 다음 변경을 계속 전달합니다.
+	 *
+	 * @param afterSequence 이미 처리한 마지막 순번 (처음부터 받으려면 0)
+	 * @param consumer      변경을 받을 함수 (전달 스레드에서 호출됨)
+	 * @return 구독 (닫으면 더 이상 전달하지 않음)
+	 */
+	public Subscription subscribe(long afterSequence, Consumer<BookingChange> consumer) {
+		Subscription subscription = new Subscription(consumer, afterSequence);
+		dispatch.add(() -> {
+			// 파일 기록도 전달 스레드가 하므로, 이 작업 전에 발행된 변경은 모두 파일에 있고 이후 변경은 이 작업 뒤에 전달됨
+			flushWriter();
+			subscribers.add(subscription);
+			for (BookingChange change : readChanges(file, afterSequence)) {
+				subscription.deliver(change);
+			}
+		});
+		return subscription;
+	}
+
+	/**
+	 * @return 마지막으로 기록한 변경의 순번 (기록한 변경이 없으면 0)
+	 */
+	public synchronized long getLastSequence() {
+		try {
+			open();
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 예약 변경 로그 열기 오류: " + e.getMessage());
+		}
+		return Math.max(lastSequence, 0);
+	}
+
+	/**
+	 * 로그 파일에서 순번이 {@code afterSequence}보다 큰 변경을 순서대로 읽습니다. 파일의 순번은 증가하므로, 순번으로 이진 탐색한
+	 * 첫 변경의 위치부터 읽습니다. 기록 도중 잘린 줄은 건너뜁니다.
+	 *
+	 * @param file          변경 로그 파일
+	 * @param afterSequence 이미 처리한 마지막 순번 (처음부터 읽으려면 0)
+	 * @return 변경 목록 (파일이 없으면 빈 목록)
+	 */
+	public static List<BookingChange> readChanges(Path file, long afterSequence) {
+		List<BookingChange> changes = new ArrayList<>();
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+			raf.seek(findOffset(raf, afterSequence));
+			BufferedReader br = new BufferedReader(
+					new InputStreamReader(Channels.newInputStream(raf.getChannel()), StandardCharsets.UTF_8));
+
+			String line;
+			while ((line = br.readLine()) != null) {
+				BookingChange change;
+				try {
+					change = BookingChange.parse(line);
+				} catch (RuntimeException e) {
+					continue;
+				}
+				if (change.getSequence() > afterSequence) {
+					changes.add(change);
+				}
+			}
+		} catch (FileNotFoundException e) {
+			// 아직 기록된 변경 없음
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 예약 변경 로그 읽기 오류: " + e.getMessage());
+		}
+		return changes;
+	}
+
+	/**
+	 * 순번이 {@code afterSequence}보다 큰 첫 줄의 시작 위치를 이진 탐색으로 찾습니다.
+	 *
+	 * <p>
+	 * [lo, hi) 안의 줄 시작 위치와 hi 이후 첫 줄 시작 위치 중에 답이 있고, lo 앞의 줄은 모두 순번이 {@code afterSequence}
+	 * 이하라는 조건을 유지하며 범위를 줄입니다. 잘린 줄은 그 뒤 첫 정상 줄의 순번으로 판단합니다.
+	 * </p>
+	 *
+	 * @return 읽기 시작할 위치 (해당하는 줄이 없으면 파일 끝)
+	 */
+	private static long findOffset(RandomAccessFile raf, long afterSequence) throws IOException {
+		// 헤더 줄 다음부터
+		long lo = lineStartAtOrAfter(raf, 1);
+		long hi = raf.length();
+		while (lo < hi) {
+			long mid = lo + (hi - lo) / 2;
+			long start = lineStartAtOrAfter(raf, mid);
+			if (start >= hi) {
+				hi = mid;
+				continue;
+			}
+			long[] probe = firstSequenceFrom(raf, start);
+			if (probe == null || probe[0] > afterSequence) {
+				hi = start;
+			} else {
+				lo = probe[1];
+				hi = Math.max(hi, lo);
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * @return {@code pos} 이후(포함)의 첫 줄 시작 위치 (없으면 파일 끝)
+	 */
+	private static long lineStartAtOrAfter(RandomAccessFile raf, long pos) throws IOException {
+		if (pos == 0) {
+			return 0;
+		}
+		raf.seek(pos - 1);
+		byte[] buf = new byte[512];
+		long at = pos - 1;
+		int n;
+		while ((n = raf.read(buf)) > 0) {
+			for (int i = 0; i < n; i++) {
+				if (buf[i] == '\n') {
+					return at + i + 1;
+				}
+			}
+			at += n;
+		}
+		return raf.length();
+	}
+
+	/**
+	 * {@code start}부터 읽어 처음으로 순번을 읽을 수 있는 줄을 찾습니다.
+	 *
+	 * @return {순번, 그 줄 다음 줄의 시작 위치}, 끝까지 없으면 {@code null}
+	 */
+	private static long[] firstSequenceFrom(RandomAccessFile raf, long start) throws IOException {
+		raf.seek(start);
+		byte[] buf = new byte[512];
+		StringBuilder line = new StringBuilder();
+		long at = start;
+		int n;
+		while ((n = raf.read(buf)) > 0) {
+			for (int i = 0; i < n; i++) {
+				if (buf[i] != '\n') {
+					line.append((char) buf[i]);
+					continue;
+				}
+				long next = at + i + 1;
+				try {
+					return new long[] { BookingChange.parse(line.toString()).getSequence(), next };
+				} catch (RuntimeException e) {
+					// 잘린 줄은 다음 줄로
+					line.setLength(0);
+				}
+			}
+			at += n;
+		}
+		return null;
+	}
+
+	/**
+	 * 로그 파일을 처음 사용할 때 열고 마지막 순번을 찾습니다. 이전 기록이 줄 중간에서 끊겼으면 줄을 바꿉니다.
+	 */
+	private void open() throws IOException {
+		if (writer != null) {
+			return;
+		}
+		boolean isNew = !Files.exists(file) || Files.size(file) == 0;
+		boolean tornTail = false;
+		long last = 0;
+		if (!isNew) {
+			try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+				last = lastSequence(raf);
+				raf.seek(raf.length() - 1);
+				tornTail = raf.read() != '\n';
+			}
+		}
+
+		writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+		if (isNew) {
+			writer.write(HEADER);
+			writer.newLine();
+		} else if (tornTail) {
+			writer.newLine();
+		}
+		writer.flush();
+		lastSequence = Math.max(lastSequence, last);
+	}
+
+	/**
+	 * 파일 끝에서부터 거꾸로 읽어 마지막 정상 줄의 순번을 찾습니다. 파일의 순번은 증가하므로 전체를 읽지 않습니다.
+	 *
+	 * @return 마지막 순번 (정상 줄이 없으면 0)
+	 */
+	private static long lastSequence(RandomAccessFile raf) throws IOException {
+		long end = raf.length();
+		while (end > 0) {
+			// 끝에서 한 줄씩 거꾸로 찾음
+			long lineEnd = end;
+			long pos = end - 1;
+			if (pos >= 0) {
+				raf.seek(pos);
+				if (raf.read() == '\n') {
+					lineEnd = pos;
+					pos--;
+				}
+			}
+			while (pos >= 0) {
+				raf.seek(pos);
+				if (raf.read() == '\n') {
+					break;
+				}
+				pos--;
+			}
+			long lineStart = pos + 1;
+			byte[] bytes = new byte[(int) (lineEnd - lineStart)];
+			raf.seek(lineStart);
+			raf.readFully(bytes);
+			try {
+				return BookingChange.parse(new String(bytes, StandardCharsets.UTF_8)).getSequence();
+			} catch (RuntimeException e) {
+				// 헤더나 잘린 줄은 건너뛰고 앞 줄로
+			}
+			end = lineStart;
+		}
+		return 0;
+	}
+
+	/**
+	 * 변경 한 줄을 로그 파일에 추가합니다. 전달 스레드에서만 호출하며, 큐에 남은 작업이 없을 때 한 번에 내보냅니다.
+	 */
+	private void write(BookingChange change) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(change.toLine());
+			writer.newLine();
+			if (dispatch.isEmpty()) {
+				writer.flush();
+			}
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 예약 변경 로그 기록 중 오류 발생: " + e.getMessage());
+		}
+	}
+
+	private void flushWriter() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 예약 변경 로그 기록 중 오류 발생: " + e.getMessage());
+		}
+	}
+
+	private void dispatchLoop() {
+		while (true) {
+			try {
+				dispatch.take().run();
+			} catch (InterruptedException e) {
+				// 데몬 스레드이므로 중단 요청은 무시하고 계속 전달
+			} catch (RuntimeException e) {
+				System.out.println("예약 변경 전달 중 오류 발생: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 변경 스트림 구독입니다. 닫으면 이후 변경은 전달되지 않습니다.
+	 */
+	public class Subscription implements AutoCloseable {
+		private final Consumer<BookingChange> consumer;
+		/** 마지막으로 전달한 순번 (전달 스레드에서만 변경) */
+		private volatile long lastDelivered;
+		private volatile boolean closed;
+
+		private Subscription(Consumer<BookingChange> consumer, long afterSequence) {
+			this.consumer = consumer;
+			this.lastDelivered = afterSequence;
+		}
+
+		private void deliver(BookingChange change) {
+			if (closed || change.getSequence() <= lastDelivered) {
+				return;
+			}
+			lastDelivered = change.getSequence();
+			try {
+				consumer.accept(change);
+			} catch (RuntimeException e) {
+				System.out.println("예약 변경 구독자 오류 (순번 " + change.getSequence() + "): " + e.getMessage());
+			}
+		}
+
+		/**
+		 * @return 구독자에게 마지막으로 전달한 순번
+		 */
+		public long getLastDelivered() {
+			return lastDelivered;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			subscribers.remove(this);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.gh.service;
+
+import com.gh.model.Booking;
+import com.gh.user.Customer;
+
+/**
+ * {@code BookingEvent} 클래스는 예약 생성, 변경, 취소 한 건을 나타냅니다. 예약 저널({@link BookingFileManager})에 한
+ * 줄씩 기록되며, 시작 시 순서대로 다시 적용하여 예약 상태를 복원합니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingEvent {
+
+	/**
+	 * 예약 이벤트 종류입니다.
+	 */
+	public enum Type {
+		/** 예약 생성 */
+		CREATED,
+		/** 예약 변경 */
+		UPDATED,
+		/** 예약 취소 */
+		CANCELLED,
+		/** 예약이 다른 파티션으로 옮겨짐 (게스트하우스나 체크인 월 변경, 기존 파티션에만 기록) */
+		MOVED
+	}
+
+	private final Type type;
+	private final Booking booking;
+	private final Customer customer;
+
+	/**
+	 * @param type     이벤트 종류
+	 * @param booking  이벤트 이후의 예약 정보
+	 * @param customer 예약한 고객
+	 */
+	public BookingEvent(Type type, Booking booking, Customer customer) {
+		this.type = type;
+		this.booking = booking;
+		this.customer = customer;
+	}
+
+	/**
+	 * @return 이벤트 종류
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return 이벤트 이후의 예약 정보
+	 */
+	public Booking getBooking() {
+		return booking;
+	}
+
+	/**
+	 * @return 예약한 고객
+	 */
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	@Override
+	public String toString() {
+		return "BookingEvent [type=" + type + ", booking=" + booking + "]";
+	}
+}
@@ -3,72 +3,369 @@ package com.gh.service;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 import com.gh.model.Booking;
 import com.gh.model.Guesthouse;
 import com.gh.user.Customer;
 
 /**
- * BookingFileManager는 고객의 예약 정보를 CSV 파일에 저장하고 불러오는 기능을 제공한다.
- * 
+ * BookingFileManager는 예약 정보를 파일에 저장하고 불러오는 기능을 제공한다.
+ *
+ * <p>
+ * 예약은 게스트하우스 ID와 체크인 월로 나눈 파티션({@link BookingPartition},
+ * {@code bookings/<게스트하우스 ID>/<yyyy-MM>.journal})에 저장된다. 예약 생성, 변경, 취소는 해당 파티션의 저널 끝에 이벤트
+ * 한 줄씩 추가되므로, 저장 비용은 전체 예약 수와 관계없고 다른 파티션의 파일은 건드리지 않는다. 변경으로 게스트하우스나 체크인 월이
+ * 바뀌면 기존 파티션에는 예약이 옮겨졌다는 이벤트({@link BookingEvent.Type#MOVED})를 남긴다. 시작 시 각 파티션의 저널을
+ * 처음부터 다시 적용하여 예약 상태를 복원하며, 기록 도중 중단되어 잘린 마지막 줄은 무시한다. 필요한 게스트하우스와 기간의 파티션만
+ * 골라 읽을 수도 있다. 서비스에서는 {@link FileBookingRepository}를 통해 사용한다.
+ * </p>
+ *
+ * <p>
+ * 예전 방식의 고객별 파일({@code booking-<고객명>.csv} 또는 {@code booking-<고객명>.journal} 등)이 있으면 불러올 때 그
+ * 내용을 파티션으로 옮기고, 다시 옮기지 않도록 원래 파일 이름 뒤에 {@code .migrated}를 붙인다.
+ * </p>
+ *
+ * <p>
+ * 저널이 일정 크기를 넘으면 번호를 붙인 세그먼트({@code <yyyy-MM>.<번호>.segment})로 봉인하고 새 저널을 시작한다. 봉인된
+ * 세그먼트는 백그라운드 압축 스레드가 이전 스냅샷과 합쳐 예약 ID별 마지막 상태만 남긴 새 스냅샷
+ * ({@code <yyyy-MM>.<번호>.snapshot}, {@link BookingBinaryCodec} 형식)으로 만들고 삭제한다. 압축은 봉인된 파일만 다루므로
+ * 저널에 기록하는 쪽을 막지 않는다. 시작 시에는 가장 최근 스냅샷을 읽은 뒤 그 이후의 세그먼트와 현재 저널만 다시 적용한다. 숙소별
+ * 인원은 복원된 예약으로부터 다시 계산된다.
+ * </p>
+ *
+ * <p>
+ * 저널 기록은 기본적으로 지연 기록 단계({@link BookingWriteBehind})를 거치므로, 예약 호출은 메모리 상태가 바뀌는 즉시 반환하고
+ * 디스크 지연을 기다리지 않는다. 기록 시점과 디스크 반영 수준은 {@link #setDurability(Durability)}와
+ * {@link #setFlushInterval(long)}로 정하며, {@link #flush()}와 종료 훅으로 정상 종료 시 남은 이벤트를 모두 기록한다.
+ * {@link Durability#GROUP_COMMIT}이면 동시에 들어온 예약 변경을 한 그룹으로 기록하고 파일마다 한 번만 디스크에 반영하며, 그룹
+ * 크기와 반영 시간은 {@link #getCommitStats()}로 확인할 수 있다.
+ * </p>
+ *
  * @author 소유나, 우승환, 양준용
  */
 public class BookingFileManager {
+	private static final String JOURNAL_HEADER = "event,bookingId,startDate,endDate,bookingDays,numberOfPeople,isCancelled,guesthouseId,customerEmail,totalAmount";
+	private static final String SEGMENT_SUFFIX = "segment";
+	private static final String SNAPSHOT_SUFFIX = "snapshot";
+	private static final String MIGRATED_SUFFIX = ".migrated";
+	/** 저널을 세그먼트로 봉인하는 크기 (바이트) */
+	private static final long SEGMENT_BYTES = 256 * 1024;
 
+	/** 봉인된 세그먼트를 스냅샷으로 압축하는 백그라운드 스레드 */
+	private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "booking-journal-compactor");
+		t.setDaemon(true);
+		return t;
+	});
 	/**
-	 * 고객의 모든 예약 정보를 CSV 파일로 저장한다. 기존 파일이 존재할 경우 덮어쓴다.
+	 * 파티션 → 파일 목록 락. 읽을 때는 스냅샷, 세그먼트, 저널을 나열하고 읽는 동안 읽기 락을, 압축과 저널 봉인은 파일을 만들거나
+	 * 지우거나 이름을 바꾸는 동안 쓰기 락을 잡으므로, 읽는 쪽이 나열한 뒤 지워진 파일 때문에 예약을 놓치지 않음 (저널 끝에 추가하는
+	 * 기록과는 별개)
+	 */
+	private static final Map<BookingPartition, ReadWriteLock> fileLocks = new ConcurrentHashMap<>();
+	/** 예약 ID → 예약이 저장된 파티션 (예약이 다른 파티션으로 옮겨졌는지 확인하기 위함) */
+	private static final Map<String, BookingPartition> partitionOf = new ConcurrentHashMap<>();
+
+	/** 저널 기록 시점과 디스크 반영 수준 */
+	private static volatile Durability durability = Durability.ASYNC_FORCE;
+	/** 예약 이벤트를 모아 백그라운드에서 기록하는 단계 */
+	private static final BookingWriteBehind writeBehind = new BookingWriteBehind(
+			events -> writeEvents(events, durability != Durability.ASYNC), 100);
+	/** 저널 기록 그룹 크기와 디스크 반영 시간 */
+	private static final CommitStats commitStats = new CommitStats();
+
+	static {
+		// 정상 종료 시 아직 기록되지 않은 예약 이벤트를 모두 기록
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				flush();
+			} catch (UncheckedIOException e) {
+				System.out.println("종료 중 예약 저널 기록 실패: " + e.getMessage());
+			}
+		}, "booking-journal-flush"));
+	}
+
+	/**
+	 * 저널 기록 시점과 디스크 반영 수준을 변경한다. 기본값은 {@link Durability#ASYNC_FORCE}이다.
 	 *
-	 * @param bookings 고객의 예약 목록
-	 * @param c        예약을 가진 고객 객체
+	 * @param level 디스크 반영 수준
 	 */
-	// 1. 전체 Booking 리스트를 csv에 저장(덮어쓰기)
-	public static void saveBookings(List<Booking> bookings, Customer c) {
-		String FILE_PATH = "booking-" + c.getName() + ".csv";
-		// fileWriter로 전체 예약을 FILE_PATH에 저장
-		try (BufferedWriter br = new BufferedWriter(
-				new OutputStreamWriter(new FileOutputStream(FILE_PATH), StandardCharsets.UTF_8))) {
+	public static void setDurability(Durability level) {
+		durability = level;
+	}
 
-			br.write("bookingId,startDate,endDate,bookingDays,numberOfPeople,isCancelled,guesthouseId,customerEmail");
-			br.newLine();
+	/**
+	 * @return 저널 기록 시점과 디스크 반영 수준 ({@link BTreeBookingRepository}도 같은 설정을 따름)
+	 */
+	public static Durability getDurability() {
+		return durability;
+	}
 
-			for (Booking b : bookings) {
-				String line = String.join(", ", b.getBookingId(), b.getStartDate().toString(),
-						b.getEndDate().toString(), String.valueOf(b.getBookingDays()),
-						String.valueOf(b.getNumberOfPeople()), String.valueOf(b.getIsCancled()),
-						b.getGuesthouse().getBookingId(), c.getEmail());
-				br.write(line);
-				br.newLine();
+	/**
+	 * 백그라운드 기록 시 이벤트를 모으는 시간을 변경한다. 기본값은 100밀리초이다.
+	 *
+	 * @param millis 기록 간격 (밀리초, 0이면 모으지 않고 바로 기록)
+	 * @throws IllegalArgumentException 음수인 경우
+	 */
+	public static void setFlushInterval(long millis) {
+		writeBehind.setFlushInterval(millis);
+	}
+
+	/**
+	 * 지금까지 요청된 예약 이벤트가 모두 저널에 기록될 때까지 기다린다.
+	 *
+	 * @throws UncheckedIOException 기다린 기록, 또는 지난 flush 이후 기다리는 쪽 없이 진행된 기록이 실패한 경우
+	 */
+	public static void flush() {
+		writeBehind.flush();
+	}
+
+	/**
+	 * @return 저널 기록 그룹 크기와 디스크 반영 시간 통계
+	 */
+	public static CommitStats getCommitStats() {
+		return commitStats;
+	}
+
+	/**
+	 * 예약 이벤트 하나를 해당 파티션의 저널 끝에 추가하도록 요청한다.
+	 *
+	 * @param event 기록할 예약 이벤트
+	 */
+	public static void appendEvent(BookingEvent event) {
+		List<BookingEvent> events = new ArrayList<>(1);
+		events.add(event);
+		appendEvents(events);
+	}
+
+	/**
+	 * 예약 이벤트들을 순서대로 각 파티션의 저널 끝에 추가하도록 요청한다. {@link Durability#ASYNC}, {@link Durability#ASYNC_FORCE}이면
+	 * 기록 스레드에 넘기고 바로 반환한다. {@link Durability#GROUP_COMMIT}이면 기록 스레드가 동시에 들어온 이벤트와 함께 기록하고
+	 * 디스크에 반영할 때까지 기다린다. {@link Durability#SYNC}이면 앞서 요청된 이벤트를 먼저 기록한 뒤 호출한 스레드에서 기록하고
+	 * 디스크에 반영한다.
+	 *
+	 * @param events 기록할 예약 이벤트 목록
+	 * @throws UncheckedIOException {@link Durability#GROUP_COMMIT}, {@link Durability#SYNC}에서 기록이나 디스크 반영에
+	 *                              실패한 경우 (메모리 상태는 이미 바뀌었으므로 저장되지 않았음을 알림)
+	 */
+	public static void appendEvents(List<BookingEvent> events) {
+		switch (durability) {
+		case GROUP_COMMIT:
+			writeBehind.submitAndWait(events);
+			break;
+		case SYNC:
+			writeBehind.flush();
+			writeEvents(events, true);
+			break;
+		default:
+			writeBehind.submit(events);
+		}
+	}
+
+	/**
+	 * 예약 이벤트들을 순서대로 각 파티션의 저널 끝에 기록한다. 같은 파티션의 이벤트는 파일을 한 번만 열어 기록한다. 예약이 다른
+	 * 파티션으로 옮겨졌으면 기존 파티션에 {@link BookingEvent.Type#MOVED} 이벤트를 함께 기록한다. 디스크에 반영할 때는 모든
+	 * 파일을 기록한 뒤 파일마다 한 번씩 반영하며, 모두 성공한 그룹만 크기와 반영 시간을 통계에 더한다.
+	 *
+	 * @param events 기록할 예약 이벤트 목록
+	 * @param force  기록 후 디스크에 강제로 반영할지 여부
+	 * @throws UncheckedIOException 한 파티션이라도 기록하거나 디스크에 반영하지 못한 경우 (나머지 파티션은 기록됨)
+	 */
+	private static synchronized void writeEvents(List<BookingEvent> events, boolean force) {
+		Map<BookingPartition, List<BookingEvent>> byPartition = new LinkedHashMap<>();
+		for (BookingEvent e : events) {
+			BookingPartition target = BookingPartition.of(e.getBooking());
+			BookingPartition previous = partitionOf.put(e.getBooking().getBookingId(), target);
+			if (previous != null && !previous.equals(target)) {
+				byPartition.computeIfAbsent(previous, k -> new ArrayList<>())
+						.add(new BookingEvent(BookingEvent.Type.MOVED, e.getBooking(), e.getCustomer()));
 			}
+			byPartition.computeIfAbsent(target, k -> new ArrayList<>()).add(e);
+		}
+
+		List<FileOutputStream> unforced = new ArrayList<>();
+		List<BookingPartition> written = new ArrayList<>();
+		IOException failure = null;
+		for (Map.Entry<BookingPartition, List<BookingEvent>> entry : byPartition.entrySet()) {
+			BookingPartition partition = entry.getKey();
+			File file = partition.journalFile();
+			partition.getDirectory().mkdirs();
+			boolean isNew = !file.exists() || file.length() == 0;
+			FileOutputStream out = null;
+			try {
+				out = new FileOutputStream(file, true);
+				BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+				if (isNew) {
+					bw.write(JOURNAL_HEADER);
+					bw.newLine();
+				} else if (!endsWithNewLine(file)) {
+					// 이전 기록이 중단되어 잘린 줄과 이어 붙지 않도록 줄을 바꿈
+					bw.newLine();
+				}
+				for (BookingEvent e : entry.getValue()) {
+					bw.write(toJournalLine(e));
+					bw.newLine();
+				}
+				bw.flush();
+				unforced.add(out);
+				written.add(partition);
+			} catch (IOException e) {
+				System.out.println("[" + partition + "] 예약 저널 기록 중 오류 발생: " + e.getMessage());
+				closeQuietly(out);
+				failure = failure == null ? e : failure;
+			}
+		}
+
+		// 그룹의 모든 파일을 기록한 뒤 파일마다 한 번씩 디스크에 반영
+		long started = System.nanoTime();
+		for (int i = 0; i < unforced.size(); i++) {
+			try (FileOutputStream out = unforced.get(i)) {
+				if (force) {
+					out.getChannel().force(false);
+				}
+			} catch (IOException e) {
+				System.out.println("[" + written.get(i) + "] 예약 저널 디스크 반영 중 오류 발생: " + e.getMessage());
+				failure = failure == null ? e : failure;
+			}
+		}
+		if (failure == null) {
+			commitStats.record(events.size(), force ? unforced.size() : 0, System.nanoTime() - started);
+		}
+
+		for (BookingPartition partition : written) {
+			if (partition.journalFile().length() >= SEGMENT_BYTES) {
+				sealJournal(partition, partition.journalFile());
+			}
+		}
+		if (failure != null) {
+			throw new UncheckedIOException("예약 저널 기록 실패: " + failure.getMessage(), failure);
+		}
+	}
+
+	private static void closeQuietly(FileOutputStream out) {
+		if (out == null) {
+			return;
+		}
+		try {
+			out.close();
 		} catch (IOException e) {
-			System.out.println("[" + c.getName() + "] 예약 저장 중 오류 발생: " + e.getMessage());
+			// 기록 오류를 이미 알렸으므로 닫기 오류는 무시
+		}
+	}
+
+	/**
+	 * 현재 저널을 다음 번호의 세그먼트로 봉인하고 백그라운드 압축을 요청한다. 이후 기록은 새 저널에 추가된다.
+	 */
+	private static void sealJournal(BookingPartition partition, File journal) {
+		// 읽는 쪽이 세그먼트를 나열한 뒤 저널이 세그먼트로 바뀌어 빠지지 않도록
+		Lock lock = filesLock(partition).writeLock();
+		lock.lock();
+		try {
+			long seq = Math.max(lastNumber(partition.numberedFiles(SEGMENT_SUFFIX)),
+					lastNumber(partition.numberedFiles(SNAPSHOT_SUFFIX))) + 1;
+			Files.move(journal.toPath(), partition.numberedFile(seq, SEGMENT_SUFFIX).toPath(),
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			System.out.println("[" + partition + "] 예약 저널 봉인 중 오류 발생: " + e.getMessage());
+			return;
+		} finally {
+			lock.unlock();
 		}
+		compactor.execute(() -> compact(partition));
 	}
 
 	/**
-	 * 고객의 예약 정보를 CSV 파일에서 불러와 Customer 객체와 시스템에 복원한다. 예약된 게스트하우스 정보는 전달받은 리스트에서
-	 * 참조하여 연결한다.
+	 * 가장 최근 스냅샷과 그 이후의 봉인된 세그먼트를 합쳐 예약 ID별 마지막 상태만 담은 새 스냅샷을 만들고, 합쳐진 세그먼트와 이전
+	 * 스냅샷을 삭제한다. 새 스냅샷은 임시 파일에 모두 기록한 뒤 이름을 바꾸므로, 도중에 중단되어도 이전 파일로 복원할 수 있다. 현재
+	 * 저널은 다루지 않으므로 저널 기록과 동시에 실행해도 된다.
 	 *
-	 * @param c              예약을 불러올 고객 객체
-	 * @param guesthouseList 시스템 내의 모든 게스트하우스 목록
+	 * @param partition 압축할 파티션
 	 */
-	// 2. csv에서 Booking 리스트를 불러오기
-	public static void loadBookings(Customer c, List<Guesthouse> guesthouseList) {
-		String fileName = "booking-" + c.getName() + ".csv";
-		File file = new File(fileName);
+	static void compact(BookingPartition partition) {
+		Lock lock = filesLock(partition).writeLock();
+		lock.lock();
+		try {
+			TreeMap<Long, File> snapshots = partition.numberedFiles(SNAPSHOT_SUFFIX);
+			TreeMap<Long, File> segments = partition.numberedFiles(SEGMENT_SUFFIX);
+			long base = lastNumber(snapshots);
+			long through = lastNumber(segments);
 
-		if (!file.exists()) {
-			System.out.println("[" + c.getName() + "] 예약 정보 파일이 없어 새로 생성됩니다.");
+			if (through > base) {
+				Map<String, BookingRecord> latest = new LinkedHashMap<>();
+				try {
+					if (!snapshots.isEmpty()) {
+						readRecords(snapshots.lastEntry().getValue(), latest);
+					}
+					for (File segment : segments.tailMap(base, false).values()) {
+						readRecords(segment, latest);
+					}
+					writeSnapshot(partition.numberedFile(through, SNAPSHOT_SUFFIX), latest.values());
+				} catch (IOException e) {
+					System.out.println("[" + partition + "] 예약 저널 압축 중 오류 발생: " + e.getMessage());
+					return;
+				}
+				base = through;
+			}
+
+			// 새 스냅샷에 포함된 세그먼트와 이전 스냅샷 정리
+			for (File segment : segments.headMap(base, true).values()) {
+				segment.delete();
+			}
+			for (File snapshot : snapshots.headMap(base, false).values()) {
+				snapshot.delete();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static ReadWriteLock filesLock(BookingPartition partition) {
+		return fileLocks.computeIfAbsent(partition, k -> new ReentrantReadWriteLock());
+	}
+
+	/**
+	 * 저널 형식 또는 바이너리 형식({@link BookingBinaryCodec})의 파일을 읽어 예약 ID별 마지막 상태를 기록된 순서대로 남긴다.
+	 * 기록 도중 중단되어 잘린 줄은 무시하고, 다른 파티션으로 옮겨진 예약은 제거한다.
+	 */
+	private static void readRecords(File file, Map<String, BookingRecord> latest) throws IOException {
+		if (isBinaryFile(file)) {
+			for (BookingRecord r : BookingBinaryCodec.read(file.toPath())) {
+				latest.put(r.getBookingId(), r);
+			}
 			return;
 		}
 
-		try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
+		try (BufferedReader br = new BufferedReader(
+				new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
 			String line;
 
 			// 첫 줄 헤더 스킵
@@ -77,48 +374,348 @@ public class BookingFileManager {
 			while ((line = br.readLine()) != null) {
 				String[] parts = line.split(",");
 
-				if (parts.length < 7)
+				// 기록 도중 중단되어 잘린 줄은 무시
+				if (parts.length < 10)
 					continue;
 
-				String bookingId = parts[0].trim();
-				LocalDate startDate = LocalDate.parse(parts[1].trim());
-				LocalDate endDate = LocalDate.parse(parts[2].trim());
-				int bookingDays = Integer.parseInt(parts[3].trim());
-				int numberOfPeople = Integer.parseInt(parts[4].trim());
-				boolean isCancled = Boolean.parseBoolean(parts[5].trim());
-				String guesthouseId = parts[6].trim();
-
-				// guesthouseId로 Guesthouse 객체 찾기
-				Guesthouse gh = null;
-				for (Guesthouse g : guesthouseList) {
-					if (g.getBookingId().equals(guesthouseId)) {
-						gh = g;
-						break;
-					}
+				BookingEvent.Type type;
+				BookingRecord r;
+				try {
+					type = BookingEvent.Type.valueOf(parts[0].trim());
+					r = BookingRecord.parse(parts, 1);
+				} catch (RuntimeException e) {
+					continue;
+				}
+				if (type == BookingEvent.Type.MOVED) {
+					latest.remove(r.getBookingId());
+				} else {
+					latest.put(r.getBookingId(), r);
 				}
+			}
+		}
+	}
 
-				if (gh == null) {
-					System.out.println("[" + c.getName() + "] 게스트하우스 ID " + guesthouseId + "에 해당하는 숙소가 없습니다.");
+	private static boolean isBinaryFile(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			return raf.length() >= 4 && raf.readInt() == BookingBinaryCodec.MAGIC;
+		}
+	}
+
+	/**
+	 * 스냅샷을 바이너리 형식으로 임시 파일에 기록하고 디스크에 반영한 뒤 이름을 바꾼다.
+	 */
+	private static void writeSnapshot(File snapshot, Collection<BookingRecord> records) throws IOException {
+		File tmp = new File(snapshot.getPath() + ".tmp");
+		try (FileOutputStream out = new FileOutputStream(tmp)) {
+			out.getChannel().write(BookingBinaryCodec.encode(records));
+			out.getFD().sync();
+		}
+		Files.move(tmp.toPath(), snapshot.toPath(), StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static String toJournalLine(BookingEvent e) {
+		Booking b = e.getBooking();
+		return String.join(", ", e.getType().name(), b.getBookingId(), b.getStartDate().toString(),
+				b.getEndDate().toString(), String.valueOf(b.getBookingDays()), String.valueOf(b.getNumberOfPeople()),
+				String.valueOf(b.getIsCancled()), b.getGuesthouse().getBookingId(), e.getCustomer().getEmail(),
+				String.valueOf(b.getTotalAmount()));
+	}
+
+	private static boolean endsWithNewLine(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			raf.seek(raf.length() - 1);
+			return raf.read() == '\n';
+		}
+	}
+
+	private static long lastNumber(TreeMap<Long, File> files) {
+		return files.isEmpty() ? 0 : files.lastKey();
+	}
+
+	/**
+	 * 고객의 예약 정보를 CSV 파일({@code booking-<고객명>-export.csv})로 내보낸다. 기존 파일이 존재할 경우 덮어쓴다. 예약
+	 * 목록 중 이 고객의 예약만 기록하며, 불러올 때 이 파일은 사용하지 않는다. 임시 파일에 모두 기록하고 디스크에 반영한 뒤 이름을
+	 * 바꾸므로, 도중에 중단되어도 이전 파일이 남는다. 여러 스레드에서 동시에 저장하더라도 파일 내용이 섞이지 않도록 한 번에 하나씩
+	 * 저장한다.
+	 *
+	 * @param bookings 예약 목록
+	 * @param c        내보낼 고객
+	 */
+	public static synchronized void saveBookings(List<Booking> bookings, Customer c) {
+		File target = new File("booking-" + c.getName() + "-export.csv");
+		File tmp = new File(target.getPath() + ".tmp");
+		try (FileOutputStream out = new FileOutputStream(tmp);
+				BufferedWriter br = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+
+			br.write(BookingRecord.CSV_HEADER);
+			br.newLine();
+
+			for (Booking b : bookings) {
+				// 다른 고객의 예약은 내보내지 않음
+				if (b.getCustomer() != null && !b.getCustomer().getEmail().equals(c.getEmail()))
+					continue;
+
+				br.write(BookingRecord.of(b, c.getEmail()).toCsvLine());
+				br.newLine();
+			}
+			br.flush();
+			out.getChannel().force(false);
+		} catch (IOException e) {
+			System.out.println("[" + c.getName() + "] 예약 저장 중 오류 발생: " + e.getMessage());
+			tmp.delete();
+			return;
+		}
+		try {
+			Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			System.out.println("[" + c.getName() + "] 예약 저장 중 오류 발생: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 지정한 게스트하우스들의 체크인 월이 [from, to]인 파티션에서 예약을 읽어 게스트하우스, 고객과 연결한 예약 목록을 반환한다.
+	 * 예전 방식의 고객별 파일이 있으면 먼저 파티션으로 옮긴다. 파티션은 병렬로 읽고 게스트하우스 ID, 월 순서로 합친다.
+	 *
+	 * @param customers      예약과 연결할 고객 목록
+	 * @param guesthouseList 읽을 게스트하우스 목록
+	 * @param from           읽을 첫 체크인 월 ({@code null}이면 처음부터)
+	 * @param to             읽을 마지막 체크인 월 ({@code null}이면 끝까지)
+	 * @return 예약 목록
+	 */
+	public static List<Booking> readBookings(List<Customer> customers, List<Guesthouse> guesthouseList,
+			YearMonth from, YearMonth to) {
+		migrateLegacyFiles(customers, guesthouseList);
+
+		List<String> guesthouseIds = guesthouseList.stream().map(Guesthouse::getBookingId).distinct()
+				.collect(Collectors.toList());
+		List<BookingPartition> partitions = BookingPartition.list(guesthouseIds, from, to);
+		MappedBookingReader reader = new MappedBookingReader(guesthouseList, customers, null, "예약");
+		List<Map<String, Booking>> loaded = partitions.parallelStream()
+				.map(p -> readPartition(p, new MappedBookingReader(reader), customers, null, guesthouseList))
+				.collect(Collectors.toList());
+
+		List<Booking> bookings = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			for (Booking b : loaded.get(i).values()) {
+				partitionOf.put(b.getBookingId(), partitions.get(i));
+				bookings.add(b);
+			}
+		}
+		return bookings;
+	}
+
+	/**
+	 * 예약 ID로 저장된 예약을 찾는다. 예약이 저장된 파티션을 알면 그 파티션만, 모르면 모든 파티션을 읽는다. 찾은 파티션은 기억해
+	 * 두므로, 이후 예약이 다른 파티션으로 옮겨지면 이 파티션에 {@link BookingEvent.Type#MOVED}가 기록된다.
+	 *
+	 * @param bookingId 예약 ID
+	 * @return 저장된 예약, 없으면 {@code null}
+	 */
+	public static BookingRecord findRecord(String bookingId) {
+		BookingPartition known = partitionOf.get(bookingId);
+		List<BookingPartition> partitions = known != null ? Collections.singletonList(known)
+				: BookingPartition.list(null, null, null);
+		for (BookingPartition p : partitions) {
+			BookingRecord found = readPartitionRecords(p).get(bookingId);
+			if (found != null) {
+				// 찾는 동안 기록된 새 위치는 덮어쓰지 않음
+				partitionOf.putIfAbsent(bookingId, p);
+				return found;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 게스트하우스의 체크인 날짜가 [from, to]인 예약을 해당 월의 파티션에서만 찾는다.
+	 *
+	 * @param guesthouseId 게스트하우스 ID
+	 * @param from         첫 체크인 날짜 ({@code null}이면 처음부터)
+	 * @param to           마지막 체크인 날짜 ({@code null}이면 끝까지)
+	 * @return 예약 목록 (체크인 순서)
+	 */
+	public static List<BookingRecord> findRecords(String guesthouseId, LocalDate from, LocalDate to) {
+		List<BookingRecord> found = new ArrayList<>();
+		for (BookingPartition p : BookingPartition.list(Collections.singletonList(guesthouseId),
+				from == null ? null : YearMonth.from(from), to == null ? null : YearMonth.from(to))) {
+			for (BookingRecord r : readPartitionRecords(p).values()) {
+				if ((from == null || r.getStartDay() >= from.toEpochDay())
+						&& (to == null || r.getStartDay() <= to.toEpochDay())) {
+					found.add(r);
+				}
+			}
+		}
+		found.sort(Comparator.comparingLong(BookingRecord::getStartDay));
+		return found;
+	}
+
+	/**
+	 * 예전 방식의 고객별 저널(스냅샷, 세그먼트 포함) 또는 CSV 파일의 예약을 파티션으로 옮긴다. 파티션에 기록하고 디스크에 반영한 뒤
+	 * 원래 파일 이름 뒤에 {@code .migrated}를 붙인다. 도중에 중단되어 다시 옮기더라도 예약 ID별 마지막 상태만 남으므로 결과는
+	 * 같다.
+	 */
+	private static void migrateLegacyFiles(List<Customer> customers, List<Guesthouse> guesthouseList) {
+		for (Customer c : customers) {
+			BookingPartition legacy = BookingPartition.legacyOf(c);
+			List<File> files = new ArrayList<>(legacy.numberedFiles(SNAPSHOT_SUFFIX).values());
+			files.addAll(legacy.numberedFiles(SEGMENT_SUFFIX).values());
+			if (legacy.journalFile().exists()) {
+				files.add(legacy.journalFile());
+			}
+			File csv = new File("booking-" + c.getName() + ".csv");
+
+			Map<String, Booking> loaded;
+			MappedBookingReader reader = new MappedBookingReader(guesthouseList, Collections.singletonList(c), c,
+					c.getName());
+			if (!files.isEmpty()) {
+				// 저널이 있으면 CSV는 예전 내보내기 파일이므로 읽지 않음
+				loaded = readPartition(legacy, reader, Collections.singletonList(c), c, guesthouseList);
+			} else if (csv.exists()) {
+				loaded = new LinkedHashMap<>();
+				try {
+					reader.readFile(csv, false, loaded);
+				} catch (IOException e) {
+					System.out.println("[" + c.getName() + "] 예약 정보 파일 없음 또는 오류: " + e.getMessage());
 					continue;
 				}
+			} else {
+				continue;
+			}
+			if (csv.exists()) {
+				files.add(csv);
+			}
 
-				// Booking 객체 생성
-				Booking booking = new Booking(startDate, bookingDays, numberOfPeople, gh);
-				booking.setBookingId(bookingId);
-				booking.setEndDate(endDate);
-				booking.setIsCancled(isCancled);
+			List<BookingEvent> events = new ArrayList<>(loaded.size());
+			for (Booking b : loaded.values()) {
+				events.add(new BookingEvent(BookingEvent.Type.CREATED, b, c));
+			}
+			try {
+				flush();
+				writeEvents(events, true);
+			} catch (UncheckedIOException e) {
+				// 옮기지 못한 예전 파일은 다음 시작 시 다시 옮기도록 그대로 둠
+				System.out.println("[" + c.getName() + "] 예전 예약 파일을 옮기지 못했습니다: " + e.getMessage());
+				continue;
+			}
 
-				if (!isCancled) {
-					gh.addPeople(startDate, endDate, numberOfPeople);
+			for (File f : files) {
+				if (!f.renameTo(new File(f.getPath() + MIGRATED_SUFFIX))) {
+					System.out.println("[" + c.getName() + "] 예전 예약 파일 이름 변경 실패: " + f);
 				}
+			}
+			System.out.println("[" + c.getName() + "] 예전 예약 파일을 게스트하우스/월별 파티션으로 옮겼습니다 (" + events.size()
+					+ "건).");
+		}
+	}
 
-				// 리스트에 추가
-				c.getBookings().add(booking);
-				BookingServiceImpl.getInstance().getBookings().add(booking);
+	/**
+	 * 파일 묶음의 최근 스냅샷 → 그 이후의 세그먼트 → 현재 저널 순으로 적용하여 예약 ID별 마지막 상태를 기록된 순서대로 반환한다.
+	 */
+	private static Map<String, Booking> readPartition(BookingPartition partition, MappedBookingReader reader,
+			List<Customer> customers, Customer owner, List<Guesthouse> guesthouseList) {
+		Lock lock = filesLock(partition).readLock();
+		lock.lock();
+		try {
+			TreeMap<Long, File> snapshots = partition.numberedFiles(SNAPSHOT_SUFFIX);
+			long base = lastNumber(snapshots);
+			List<File> files = new ArrayList<>();
+			if (!snapshots.isEmpty()) {
+				files.add(snapshots.lastEntry().getValue());
 			}
-			System.out.println("[" + c.getName() + "] 예약 정보 불러오기 완료.");
-		} catch (IOException e) {
-			System.out.println("[" + c.getName() + "] 예약 정보 파일 없음 또는 오류: " + e.getMessage());
+			files.addAll(partition.numberedFiles(SEGMENT_SUFFIX).tailMap(base, false).values());
+			if (partition.journalFile().exists()) {
+				files.add(partition.journalFile());
+			}
+
+			Map<String, Booking> latest = new LinkedHashMap<>();
+			for (File file : files) {
+				try {
+					if (isBinaryFile(file)) {
+						for (Booking b : toBookings(partition, BookingBinaryCodec.read(file.toPath()), customers, owner,
+								guesthouseList)) {
+							latest.put(b.getBookingId(), b);
+						}
+					} else {
+						reader.readFile(file, true, latest);
+					}
+				} catch (IOException e) {
+					System.out.println("[" + partition + "] 예약 저널 읽기 오류: " + e.getMessage());
+				}
+			}
+			// 다른 파티션으로 옮겨진 예약 제거
+			latest.values().removeIf(Objects::isNull);
+			return latest;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 파티션의 예약 레코드를 예약 ID별 마지막 상태로 읽는다. 읽을 수 없는 파일은 건너뛴다.
+	 */
+	private static Map<String, BookingRecord> readPartitionRecords(BookingPartition partition) {
+		Lock lock = filesLock(partition).readLock();
+		lock.lock();
+		try {
+			TreeMap<Long, File> snapshots = partition.numberedFiles(SNAPSHOT_SUFFIX);
+			List<File> files = new ArrayList<>();
+			if (!snapshots.isEmpty()) {
+				files.add(snapshots.lastEntry().getValue());
+			}
+			files.addAll(partition.numberedFiles(SEGMENT_SUFFIX).tailMap(lastNumber(snapshots), false).values());
+			if (partition.journalFile().exists()) {
+				files.add(partition.journalFile());
+			}
+
+			Map<String, BookingRecord> latest = new LinkedHashMap<>();
+			for (File file : files) {
+				try {
+					readRecords(file, latest);
+				} catch (IOException e) {
+					System.out.println("[" + partition + "] 예약 저널 읽기 오류: " + e.getMessage());
+				}
+			}
+			return latest;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 레코드를 게스트하우스, 고객과 연결한 예약 객체로 변환한다. 게스트하우스나 고객을 찾지 못한 레코드는 건너뛴다.
+	 */
+	private static List<Booking> toBookings(BookingPartition partition, Collection<BookingRecord> records,
+			List<Customer> customers, Customer owner, List<Guesthouse> guesthouseList) {
+		// guesthouseId로 Guesthouse 객체 찾기 (같은 ID가 여러 번 있으면 먼저 나온 게스트하우스)
+		Map<String, Guesthouse> byId = new HashMap<>();
+		for (Guesthouse g : guesthouseList) {
+			byId.putIfAbsent(g.getBookingId(), g);
+		}
+		Map<String, Customer> byEmail = new HashMap<>();
+		for (Customer c : customers) {
+			byEmail.putIfAbsent(c.getEmail(), c);
+		}
+
+		List<Booking> bookings = new ArrayList<>(records.size());
+		for (BookingRecord r : records) {
+			Customer customer = r.getCustomerEmail() == null ? owner : byEmail.get(r.getCustomerEmail());
+			if (customer == null) {
+				if (owner == null) {
+					System.out.println("[" + partition + "] 이메일 " + r.getCustomerEmail() + "에 해당하는 고객이 없습니다.");
+				}
+				continue;
+			}
+			Guesthouse gh = byId.get(r.getGuesthouseId());
+			if (gh == null) {
+				System.out.println("[" + partition + "] 게스트하우스 ID " + r.getGuesthouseId() + "에 해당하는 숙소가 없습니다.");
+				continue;
+			}
+			Booking booking = r.toBooking(gh);
+			booking.setCustomer(customer);
+			bookings.add(booking);
 		}
+		return bookings;
 	}
 }
@@ -0,0 +1,313 @@
+package com.gh.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.gh.model.Booking;
+
+/**
+ * {@code BookingIntervalTree} 클래스는 예약의 숙박 기간 [체크인, 체크아웃)을 epoch day 구간으로 보관하는 구간 트리입니다.
+ *
+ * <p>
+ * 체크인 날짜(같으면 추가한 순서) 순으로 정렬된 트립(treap)이며, 각 노드는 자신의 하위 트리에서 가장 늦은 체크아웃 날짜를 함께
+ * 보관합니다. 조회 시 체크아웃이 조회 시작일 이전인 하위 트리와 체크인이 조회 종료일 이후인 하위 트리를 건너뛰므로, 기간과 겹치는
+ * 예약 k건을 O(log n + k)에 찾습니다. 추가와 삭제는 평균 O(log n)입니다.
+ * </p>
+ *
+ * <p>
+ * 동기화하지 않으므로 {@link BookingStore}나 {@link WaitingList}의 락 안에서만 사용합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class BookingIntervalTree {
+	/** {@link #addAll(List, List)}에서 같은 키가 다시 나와 트리에 넣지 않을 노드 표시 */
+	private static final int REMOVED = Integer.MIN_VALUE;
+
+	private final Random random = new Random();
+	/** 예약 ID(또는 지정한 키) → 노드 (예약 객체의 날짜가 바뀌어도 넣을 때의 위치로 삭제하기 위함) */
+	private Map<String, Node> nodes = new HashMap<>();
+	private Node root;
+	/** 다음에 추가할 노드의 순서 (체크인 날짜가 같은 노드 사이의 정렬 기준) */
+	private long nextOrder;
+
+	/**
+	 * 예약을 추가합니다. 같은 예약 ID가 이미 있으면 먼저 제거합니다.
+	 *
+	 * @param b 추가할 예약
+	 */
+	void add(Booking b) {
+		add(b.getBookingId(), b);
+	}
+
+	/**
+	 * 예약을 지정한 키로 추가합니다. 예약 ID가 아직 없거나 바뀔 수 있는 예약(대기 요청 등)에 사용합니다. 같은 키가 이미 있으면 먼저
+	 * 제거합니다.
+	 *
+	 * @param id 예약을 구분할 키
+	 * @param b  추가할 예약
+	 */
+	void add(String id, Booking b) {
+		remove(id);
+		Node node = new Node(id, b, random.nextInt(), nextOrder++);
+		nodes.put(node.id, node);
+		root = insert(root, node);
+	}
+
+	/**
+	 * 여러 예약을 지정한 키로 추가합니다. 트리가 비어 있으면 체크인 날짜로 계수 정렬한 뒤 한 번에 균형 트리로 만들므로, 날짜 범위가
+	 * 예약 수보다 좁으면 O(n)에 만들어집니다. 우선순위는 깊이마다 겹치지 않는 구간의 무작위 값을 위층일수록 크게 붙이므로 이후의 추가,
+	 * 삭제는 평소와 같이 동작합니다.
+	 *
+	 * @param ids   예약을 구분할 키 목록
+	 * @param items 키와 같은 순서의 예약 목록
+	 */
+	void addAll(List<String> ids, List<Booking> items) {
+		if (root != null) {
+			for (int i = 0; i < ids.size(); i++) {
+				add(ids.get(i), items.get(i));
+			}
+			return;
+		}
+		int n = ids.size();
+		if (nodes.isEmpty()) {
+			nodes = new HashMap<>(n * 4 / 3 + 1);
+		}
+		Node[] added = new Node[n];
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < n; i++) {
+			Node node = new Node(ids.get(i), items.get(i), 0, nextOrder++);
+			Node previous = nodes.put(node.id, node);
+			if (previous != null) {
+				// 같은 키가 여러 번 있으면 마지막 것만 남김
+				previous.priority = REMOVED;
+			}
+			added[i] = node;
+			min = Math.min(min, node.start);
+			max = Math.max(max, node.start);
+		}
+
+		Node[] sorted = new Node[nodes.size()];
+		if (n > 0 && max - min < n) {
+			// 추가한 순서대로 넣으므로 같은 날짜 안에서는 compare와 같은 순서
+			int[] offsets = new int[(int) (max - min) + 2];
+			for (Node node : added) {
+				if (node.priority != REMOVED) {
+					offsets[(int) (node.start - min) + 1]++;
+				}
+			}
+			for (int d = 1; d < offsets.length; d++) {
+				offsets[d] += offsets[d - 1];
+			}
+			for (Node node : added) {
+				if (node.priority != REMOVED) {
+					sorted[offsets[(int) (node.start - min)]++] = node;
+				}
+			}
+		} else {
+			int next = 0;
+			for (Node node : added) {
+				if (node.priority != REMOVED) {
+					sorted[next++] = node;
+				}
+			}
+			Arrays.sort(sorted, BookingIntervalTree::compare);
+		}
+
+		// 깊이 d의 우선순위는 [MAX - (d + 1) * band, MAX - d * band) 안의 무작위 값 (부모가 항상 자식보다 큼)
+		int depth = 32 - Integer.numberOfLeadingZeros(sorted.length);
+		long band = (1L << 32) / (depth + 2);
+		root = build(sorted, 0, sorted.length, 0, band);
+	}
+
+	private Node build(Node[] sorted, int from, int to, int depth, long band) {
+		if (from >= to) {
+			return null;
+		}
+		int mid = (from + to) >>> 1;
+		Node node = sorted[mid];
+		node.priority = (int) (Integer.MAX_VALUE - depth * band - random.nextInt((int) band));
+		node.left = build(sorted, from, mid, depth + 1, band);
+		node.right = build(sorted, mid + 1, to, depth + 1, band);
+		update(node);
+		return node;
+	}
+
+	/**
+	 * 예약을 제거합니다.
+	 *
+	 * @param bookingId 제거할 예약 ID (또는 추가할 때 지정한 키)
+	 */
+	void remove(String bookingId) {
+		Node node = nodes.remove(bookingId);
+		if (node != null) {
+			root = delete(root, node);
+		}
+	}
+
+	/**
+	 * @return 보관 중인 예약 수
+	 */
+	int size() {
+		return nodes.size();
+	}
+
+	/**
+	 * [startDay, endDay) 기간과 하루라도 겹치는 예약을 체크인 순서로 결과 목록에 추가합니다.
+	 *
+	 * @param startDay 조회 시작일 (epoch day)
+	 * @param endDay   조회 종료일 (epoch day, 미포함)
+	 * @param out      결과를 담을 목록
+	 */
+	void findOverlapping(long startDay, long endDay, List<Booking> out) {
+		if (startDay < endDay) {
+			collect(root, startDay, endDay, node -> out.add(node.booking));
+		}
+	}
+
+	/**
+	 * [startDay, endDay) 기간과 하루라도 겹치는 예약의 키(예약 ID 또는 추가할 때 지정한 키)를 체크인 순서로 결과 목록에 추가합니다.
+	 *
+	 * @param startDay 조회 시작일 (epoch day)
+	 * @param endDay   조회 종료일 (epoch day, 미포함)
+	 * @param out      결과를 담을 목록
+	 */
+	void findOverlappingIds(long startDay, long endDay, List<String> out) {
+		if (startDay < endDay) {
+			collect(root, startDay, endDay, node -> out.add(node.id));
+		}
+	}
+
+	private static void collect(Node node, long startDay, long endDay, Consumer<Node> out) {
+		if (node == null || node.maxEnd <= startDay) {
+			return;
+		}
+		collect(node.left, startDay, endDay, out);
+		// 오른쪽 하위 트리는 체크인이 더 늦으므로 함께 건너뜀
+		if (node.start >= endDay) {
+			return;
+		}
+		if (node.end > startDay) {
+			out.accept(node);
+		}
+		collect(node.right, startDay, endDay, out);
+	}
+
+	private static Node insert(Node root, Node node) {
+		if (root == null) {
+			return node;
+		}
+		if (compare(node, root) < 0) {
+			root.left = insert(root.left, node);
+			if (root.left.priority > root.priority) {
+				root = rotateRight(root);
+			}
+		} else {
+			root.right = insert(root.right, node);
+			if (root.right.priority > root.priority) {
+				root = rotateLeft(root);
+			}
+		}
+		update(root);
+		return root;
+	}
+
+	private static Node delete(Node root, Node node) {
+		if (root == null) {
+			return null;
+		}
+		if (root == node) {
+			return merge(root.left, root.right);
+		}
+		if (compare(node, root) < 0) {
+			root.left = delete(root.left, node);
+		} else {
+			root.right = delete(root.right, node);
+		}
+		update(root);
+		return root;
+	}
+
+	/**
+	 * 왼쪽 트리의 모든 키가 오른쪽 트리보다 작은 두 트리를 합칩니다.
+	 */
+	private static Node merge(Node left, Node right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			update(left);
+			return left;
+		}
+		right.left = merge(left, right.left);
+		update(right);
+		return right;
+	}
+
+	private static Node rotateRight(Node node) {
+		Node pivot = node.left;
+		node.left = pivot.right;
+		pivot.right = node;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	private static Node rotateLeft(Node node) {
+		Node pivot = node.right;
+		node.right = pivot.left;
+		pivot.left = node;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	private static void update(Node node) {
+		long maxEnd = node.end;
+		if (node.left != null && node.left.maxEnd > maxEnd) {
+			maxEnd = node.left.maxEnd;
+		}
+		if (node.right != null && node.right.maxEnd > maxEnd) {
+			maxEnd = node.right.maxEnd;
+		}
+		node.maxEnd = maxEnd;
+	}
+
+	private static int compare(Node a, Node b) {
+		int c = Long.compare(a.start, b.start);
+		return c != 0 ? c : Long.compare(a.order, b.order);
+	}
+
+	private static final class Node {
+		private final Booking booking;
+		private final String id;
+		private final long start;
+		private final long end;
+		/** 추가한 순서 */
+		private final long order;
+		private int priority;
+		/** 하위 트리에서 가장 늦은 체크아웃 (epoch day) */
+		private long maxEnd;
+		private Node left;
+		private Node right;
+
+		Node(String id, Booking booking, int priority, long order) {
+			this.booking = booking;
+			this.id = id;
+			this.start = booking.getStartDate().toEpochDay();
+			this.end = booking.getEndDate().toEpochDay();
+			this.order = order;
+			this.priority = priority;
+			this.maxEnd = end;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.gh.service;
+
+import java.io.File;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.gh.model.Booking;
+import com.gh.user.Customer;
+
+/**
+ * {@code BookingPartition} 클래스는 예약 저장 파일 묶음 하나를 나타냅니다. 묶음은 같은 디렉터리에서 같은 이름으로 시작하는
+ * 저널({@code <이름>.journal}), 세그먼트({@code <이름>.<번호>.segment}), 스냅샷({@code <이름>.<번호>.snapshot})으로
+ * 구성됩니다.
+ *
+ * <p>
+ * 예약은 게스트하우스 ID와 체크인 월로 나눈 파티션({@code bookings/<게스트하우스 ID>/<yyyy-MM>.*})에 저장되므로, 예약 변경은
+ * 해당 파티션의 파일만 건드리고 필요한 게스트하우스와 기간의 파티션만 골라 읽을 수 있습니다. 예전 방식의 고객별 파일
+ * ({@code booking-<고객명>.*})도 같은 형태이므로, 파티션으로 옮기기 전까지 이 클래스로 다룹니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+final class BookingPartition {
+	/** 파티션 디렉터리의 최상위 위치 */
+	static final File ROOT = new File("bookings");
+
+	/** 파티션 파일 이름 (월, 파일 종류) */
+	private static final Pattern PARTITION_FILE = Pattern
+			.compile("(\\d{4}-\\d{2})\\.(?:journal|\\d+\\.(?:segment|snapshot))");
+
+	private final File dir;
+	private final String prefix;
+
+	private BookingPartition(File dir, String prefix) {
+		this.dir = dir;
+		this.prefix = prefix;
+	}
+
+	/**
+	 * @param b 예약
+	 * @return 예약의 게스트하우스와 체크인 월에 해당하는 파티션
+	 */
+	static BookingPartition of(Booking b) {
+		return of(b.getGuesthouse().getBookingId(), YearMonth.from(b.getStartDate()));
+	}
+
+	/**
+	 * @param guesthouseId 게스트하우스 ID
+	 * @param month        체크인 월
+	 * @return 해당 파티션
+	 */
+	static BookingPartition of(String guesthouseId, YearMonth month) {
+		return new BookingPartition(new File(ROOT, guesthouseId), month.toString());
+	}
+
+	/**
+	 * @param c 고객
+	 * @return 예전 방식의 고객별 저널, 세그먼트, 스냅샷 파일 묶음
+	 */
+	static BookingPartition legacyOf(Customer c) {
+		return new BookingPartition(new File("."), "booking-" + c.getName());
+	}
+
+	/**
+	 * 파일이 있는 파티션을 게스트하우스 ID, 월 순서로 찾습니다.
+	 *
+	 * @param guesthouseIds 찾을 게스트하우스 ID 목록 ({@code null}이면 모두)
+	 * @param from          찾을 첫 체크인 월 ({@code null}이면 처음부터)
+	 * @param to            찾을 마지막 체크인 월 ({@code null}이면 끝까지)
+	 * @return 파티션 목록
+	 */
+	static List<BookingPartition> list(Collection<String> guesthouseIds, YearMonth from, YearMonth to) {
+		TreeSet<String> names = new TreeSet<>();
+		if (guesthouseIds != null) {
+			names.addAll(guesthouseIds);
+		} else {
+			File[] dirs = ROOT.listFiles(File::isDirectory);
+			if (dirs != null) {
+				for (File d : dirs) {
+					names.add(d.getName());
+				}
+			}
+		}
+
+		List<BookingPartition> found = new ArrayList<>();
+		for (String guesthouseId : names) {
+			File[] files = new File(ROOT, guesthouseId).listFiles();
+			if (files == null) {
+				continue;
+			}
+			TreeSet<YearMonth> months = new TreeSet<>();
+			for (File f : files) {
+				Matcher m = PARTITION_FILE.matcher(f.getName());
+				if (m.matches()) {
+					months.add(YearMonth.parse(m.group(1)));
+				}
+			}
+			for (YearMonth month : months) {
+				if ((from == null || !month.isBefore(from)) && (to == null || !month.isAfter(to))) {
+					found.add(of(guesthouseId, month));
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * @return 파일을 만들 디렉터리
+	 */
+	File getDirectory() {
+		return dir;
+	}
+
+	/**
+	 * @return 현재 저널 파일
+	 */
+	File journalFile() {
+		return new File(dir, prefix + ".journal");
+	}
+
+	/**
+	 * @return 번호 붙은 파일 (세그먼트 또는 스냅샷)
+	 */
+	File numberedFile(long seq, String suffix) {
+		return new File(dir, prefix + "." + seq + "." + suffix);
+	}
+
+	/**
+	 * 번호 붙은 파일(세그먼트 또는 스냅샷)을 번호 순으로 찾습니다.
+	 */
+	TreeMap<Long, File> numberedFiles(String suffix) {
+		Pattern pattern = Pattern.compile(Pattern.quote(prefix + ".") + "(\\d+)" + Pattern.quote("." + suffix));
+		TreeMap<Long, File> found = new TreeMap<>();
+		File[] files = dir.listFiles();
+		if (files == null) {
+			return found;
+		}
+		for (File f : files) {
+			Matcher m = pattern.matcher(f.getName());
+			if (m.matches()) {
+				found.put(Long.parseLong(m.group(1)), new File(dir, f.getName()));
+			}
+		}
+		return found;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof BookingPartition)) {
+			return false;
+		}
+		BookingPartition other = (BookingPartition) o;
+		return dir.equals(other.dir) && prefix.equals(other.prefix);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * dir.hashCode() + prefix.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return new File(dir, prefix).getPath();
+	}
+}
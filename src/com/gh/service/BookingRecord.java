@@ -0,0 +1,177 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+
+/**
+ * {@code BookingRecord} 클래스는 파일에 저장되는 예약 한 건의 값을 게스트하우스, 고객 객체와 연결하기 전의 형태로 담습니다.
+ *
+ * <p>
+ * 게스트하우스는 ID로, 고객은 이메일로만 가지고 있으므로 CSV, 저널, 바이너리 형식 사이의 변환은 게스트하우스 목록 없이도 할 수
+ * 있습니다. 날짜는 epoch day로 보관합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingRecord {
+	/** CSV 파일 헤더 */
+	public static final String CSV_HEADER = "bookingId,startDate,endDate,bookingDays,numberOfPeople,isCancelled,guesthouseId,customerEmail";
+
+	private final String bookingId;
+	private final long startDay;
+	private final long endDay;
+	private final int bookingDays;
+	private final int numberOfPeople;
+	private final boolean cancelled;
+	private final String guesthouseId;
+	private final String customerEmail;
+	private final double totalAmount;
+
+	/**
+	 * @param bookingId      예약 ID
+	 * @param startDay       체크인 (epoch day)
+	 * @param endDay         체크아웃 (epoch day)
+	 * @param bookingDays    숙박일수
+	 * @param numberOfPeople 투숙 인원 수
+	 * @param cancelled      취소 여부
+	 * @param guesthouseId   게스트하우스 ID
+	 * @param customerEmail  예약한 고객 이메일, 모르면 {@code null}
+	 * @param totalAmount    총 결제 금액
+	 */
+	public BookingRecord(String bookingId, long startDay, long endDay, int bookingDays, int numberOfPeople,
+			boolean cancelled, String guesthouseId, String customerEmail, double totalAmount) {
+		this.bookingId = bookingId;
+		this.startDay = startDay;
+		this.endDay = endDay;
+		this.bookingDays = bookingDays;
+		this.numberOfPeople = numberOfPeople;
+		this.cancelled = cancelled;
+		this.guesthouseId = guesthouseId;
+		this.customerEmail = customerEmail;
+		this.totalAmount = totalAmount;
+	}
+
+	/**
+	 * 예약 객체의 현재 값으로 레코드를 만듭니다.
+	 *
+	 * @param b             예약
+	 * @param customerEmail 예약한 고객 이메일
+	 * @return 레코드
+	 */
+	public static BookingRecord of(Booking b, String customerEmail) {
+		return new BookingRecord(b.getBookingId(), b.getStartDate().toEpochDay(), b.getEndDate().toEpochDay(),
+				b.getBookingDays(), b.getNumberOfPeople(), b.getIsCancled(), b.getGuesthouse().getBookingId(),
+				customerEmail, b.getTotalAmount());
+	}
+
+	/**
+	 * {@code from}번째 칸부터 bookingId, startDate, endDate, bookingDays, numberOfPeople, isCancelled,
+	 * guesthouseId, [customerEmail, [totalAmount]] 순서로 된 CSV 한 줄을 레코드로 변환합니다.
+	 *
+	 * @param parts 쉼표로 나눈 칸
+	 * @param from  bookingId가 있는 칸 번호
+	 * @return 레코드
+	 * @throws RuntimeException 칸이 부족하거나 형식이 올바르지 않은 경우
+	 */
+	public static BookingRecord parse(String[] parts, int from) {
+		String email = parts.length > from + 7 && !parts[from + 7].trim().isEmpty() ? parts[from + 7].trim() : null;
+		double amount = parts.length > from + 8 ? Double.parseDouble(parts[from + 8].trim()) : 0;
+		return new BookingRecord(parts[from].trim(), LocalDate.parse(parts[from + 1].trim()).toEpochDay(),
+				LocalDate.parse(parts[from + 2].trim()).toEpochDay(), Integer.parseInt(parts[from + 3].trim()),
+				Integer.parseInt(parts[from + 4].trim()), Boolean.parseBoolean(parts[from + 5].trim()),
+				parts[from + 6].trim(), email, amount);
+	}
+
+	/**
+	 * @return {@link #CSV_HEADER} 형식의 CSV 한 줄
+	 */
+	public String toCsvLine() {
+		return String.join(", ", bookingId, LocalDate.ofEpochDay(startDay).toString(),
+				LocalDate.ofEpochDay(endDay).toString(), String.valueOf(bookingDays), String.valueOf(numberOfPeople),
+				String.valueOf(cancelled), guesthouseId, customerEmail == null ? "" : customerEmail);
+	}
+
+	/**
+	 * 게스트하우스를 연결한 예약 객체를 만듭니다. 고객은 연결하지 않습니다.
+	 *
+	 * @param gh 레코드의 게스트하우스 ID에 해당하는 게스트하우스
+	 * @return 예약
+	 */
+	public Booking toBooking(Guesthouse gh) {
+		Booking booking = new Booking(bookingId, LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay),
+				bookingDays, numberOfPeople, gh);
+		booking.setIsCancled(cancelled);
+		booking.setTotalAmount(totalAmount);
+		return booking;
+	}
+
+	/**
+	 * @return 예약 ID
+	 */
+	public String getBookingId() {
+		return bookingId;
+	}
+
+	/**
+	 * @return 체크인 (epoch day)
+	 */
+	public long getStartDay() {
+		return startDay;
+	}
+
+	/**
+	 * @return 체크아웃 (epoch day)
+	 */
+	public long getEndDay() {
+		return endDay;
+	}
+
+	/**
+	 * @return 숙박일수
+	 */
+	public int getBookingDays() {
+		return bookingDays;
+	}
+
+	/**
+	 * @return 투숙 인원 수
+	 */
+	public int getNumberOfPeople() {
+		return numberOfPeople;
+	}
+
+	/**
+	 * @return 취소 여부
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @return 게스트하우스 ID
+	 */
+	public String getGuesthouseId() {
+		return guesthouseId;
+	}
+
+	/**
+	 * @return 예약한 고객 이메일, 모르면 {@code null}
+	 */
+	public String getCustomerEmail() {
+		return customerEmail;
+	}
+
+	/**
+	 * @return 총 결제 금액
+	 */
+	public double getTotalAmount() {
+		return totalAmount;
+	}
+
+	@Override
+	public String toString() {
+		return "BookingRecord [" + toCsvLine() + ", totalAmount=" + totalAmount + "]";
+	}
+}
@@ -0,0 +1,71 @@
+package com.gh.service;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+import com.gh.user.Customer;
+
+/**
+ * 예약을 영구 저장소에 기록하고 조회하는 기능을 정의하는 인터페이스입니다.
+ *
+ * <p>
+ * {@link BookingServiceImpl}은 이 인터페이스를 통해서만 예약을 저장하고 불러오므로, 저장 방식은
+ * {@link BookingServiceImpl#setRepository(BookingRepository)}로 바꿀 수 있습니다. 제공되는 구현은 다음과 같습니다.
+ * </p>
+ * <ul>
+ * <li>{@link FileBookingRepository}: 게스트하우스/월별 CSV 저널 파일 ({@link BookingFileManager})</li>
+ * <li>{@link BTreeBookingRepository}: 예약 ID와 (게스트하우스 ID, 체크인 날짜)로 색인된 디스크 B-트리 파일</li>
+ * </ul>
+ *
+ * <p>
+ * 조회 메서드는 메모리에 불러오지 않은 예약도 저장소에서 직접 찾으며, 결과는 게스트하우스나 고객 객체와 연결되지 않은
+ * {@link BookingRecord}로 반환합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public interface BookingRepository {
+	/**
+	 * 예약 변경 이벤트를 순서대로 저장합니다. 같은 예약 ID의 이벤트는 마지막 상태로 덮어씁니다.
+	 *
+	 * @param events 저장할 예약 이벤트 목록
+	 * @throws UncheckedIOException 저장소가 기록을 기다리는 설정에서 기록에 실패한 경우
+	 */
+	void save(List<BookingEvent> events);
+
+	/**
+	 * 지금까지 저장을 요청한 이벤트가 모두 저장소에 기록될 때까지 기다립니다.
+	 *
+	 * @throws UncheckedIOException 기록에 실패한 이벤트가 있는 경우
+	 */
+	void flush();
+
+	/**
+	 * 저장된 예약 중 지정한 게스트하우스들의 체크인 날짜가 [from, to]인 예약을 불러옵니다. 예약은 게스트하우스와 고객이 연결된
+	 * 상태로 반환되며, 목록에 없는 게스트하우스나 고객의 예약은 제외됩니다.
+	 *
+	 * @param customers      예약과 연결할 고객 목록
+	 * @param guesthouseList 불러올 게스트하우스 목록
+	 * @param from           첫 체크인 날짜 ({@code null}이면 처음부터)
+	 * @param to             마지막 체크인 날짜 ({@code null}이면 끝까지)
+	 * @return 불러온 예약 목록
+	 */
+	List<Booking> load(List<Customer> customers, List<Guesthouse> guesthouseList, LocalDate from, LocalDate to);
+
+	/**
+	 * @param bookingId 예약 ID
+	 * @return 저장된 예약, 없으면 {@code null}
+	 */
+	BookingRecord findById(String bookingId);
+
+	/**
+	 * @param guesthouseId 게스트하우스 ID
+	 * @param from         첫 체크인 날짜 ({@code null}이면 처음부터)
+	 * @param to           마지막 체크인 날짜 ({@code null}이면 끝까지)
+	 * @return 해당 게스트하우스의 체크인 날짜가 [from, to]인 예약 목록 (체크인 순서)
+	 */
+	List<BookingRecord> findByGuesthouse(String guesthouseId, LocalDate from, LocalDate to);
+}
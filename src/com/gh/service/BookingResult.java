@@ -0,0 +1,66 @@
+package com.gh.service;
+
+import com.gh.model.Booking;
+
+/**
+ * {@code BookingResult} 클래스는 일괄 예약({@link BookingService#addBookings})에서 예약 한 건의 처리 결과를 나타냅니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingResult {
+
+	/**
+	 * 예약 한 건의 처리 상태입니다.
+	 */
+	public enum Status {
+		/** 결제와 인원 반영까지 완료됨 */
+		BOOKED,
+		/** 수용 인원 초과로 예약 대기열에 등록됨 */
+		WAITLISTED,
+		/** 잔액 부족으로 예약되지 않음 */
+		INSUFFICIENT_BALANCE,
+		/** 예약 정보가 유효하지 않거나 게스트하우스 최대 수용 인원을 넘어 예약되지 않음 */
+		REJECTED
+	}
+
+	private final Booking booking;
+	private final Status status;
+	private final String message;
+
+	/**
+	 * @param booking 처리한 예약
+	 * @param status  처리 상태
+	 * @param message 처리 결과 설명
+	 */
+	public BookingResult(Booking booking, Status status, String message) {
+		this.booking = booking;
+		this.status = status;
+		this.message = message;
+	}
+
+	/**
+	 * @return 처리한 예약
+	 */
+	public Booking getBooking() {
+		return booking;
+	}
+
+	/**
+	 * @return 처리 상태
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return 처리 결과 설명
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return "BookingResult [status=" + status + ", message=" + message + ", booking=" + booking + "]";
+	}
+}
@@ -29,6 +29,19 @@ public interface BookingService {
 	 */
 	void addBooking(Customer c, Booking b) throws InsufficientBalanceException;
 
+	/**
+	 * 여러 건의 예약을 한 번에 처리하고 예약 파일은 한 번만 저장합니다.
+	 *
+	 * <p>
+	 * 잔액 부족이나 수용 인원 초과는 예외 대신 예약별 결과로 기록되며, 나머지 예약은 계속 처리됩니다.
+	 * </p>
+	 *
+	 * @param c        예약하는 고객
+	 * @param bookings 예약 정보 목록
+	 * @return 요청 순서대로의 예약별 처리 결과
+	 */
+	List<BookingResult> addBookings(Customer c, List<Booking> bookings);
+
 	/**
 	 * 예약 ID를 기반으로 기존 예약을 삭제합니다.
 	 *
@@ -50,12 +63,24 @@ public interface BookingService {
 	void updateBooking(Customer c, Booking b)
 			throws InsufficientBalanceException, BookingCancelledException, BookingCancelledException;
 
+	/**
+	 * 예약 ID로 예약을 조회합니다.
+	 * 
+	 * @param bookingId 조회할 예약 ID
+	 * @return 예약 ID에 해당하는 예약
+	 * @throws BookingNotFoundException 해당 ID의 예약이 없는 경우
+	 */
+	Booking findBookingById(String bookingId) throws BookingNotFoundException;
+
 	/**
 	 * 예약 조회
 	 * 
 	 * @param booginId
 	 * @throws BookingCancelledException
+	 * @deprecated 예약 ID의 해시코드로 비교하므로 다른 예약이 조회될 수 있습니다. {@link #findBookingById(String)}를
+	 *             사용하세요.
 	 */
+	@Deprecated
 	Booking findBooking(int bookingId) throws BookingCancelledException, BookingCancelledException;
 
 	/**
@@ -65,6 +90,33 @@ public interface BookingService {
 	 */
 	List<Booking> findBooking(Customer cs);
 
+	/**
+	 * 해당 고객의 취소되지 않은 예약 정보를 조회합니다.
+	 * 
+	 * @param cs 조회할 고객
+	 * @return 해당 고객의 유효한 예약 목록
+	 */
+	List<Booking> findActiveBookings(Customer cs);
+
+	/**
+	 * 전체 예약 중 취소 여부가 일치하는 예약을 조회합니다.
+	 * 
+	 * @param isCancelled 취소된 예약을 조회하려면 {@code true}, 유효한 예약은 {@code false}
+	 * @return 해당 상태의 예약 목록
+	 */
+	List<Booking> findBookingsByStatus(boolean isCancelled);
+
+	/**
+	 * [start, end) 기간에 하루라도 숙박하는 예약을 체크인 순서로 조회합니다.
+	 * 
+	 * @param start            조회 시작일
+	 * @param end              조회 종료일 (미포함)
+	 * @param gh               조회할 게스트하우스, 전체 숙소를 조회하려면 {@code null}
+	 * @param includeCancelled 취소된 예약도 포함하려면 {@code true}
+	 * @return 기간과 겹치는 예약 목록
+	 */
+	List<Booking> findOverlappingBookings(LocalDate start, LocalDate end, Guesthouse gh, boolean includeCancelled);
+
 	/**
 	 * 숙소의 모든 예약 조회합니다.
 	 * 
@@ -80,6 +132,30 @@ public interface BookingService {
 	 */
 	boolean canAccomodate(LocalDate date, int numberOfPoeple);
 
+	/**
+	 * 기간 내 모든 날짜에 해당 인원을 받을 수 있는 게스트하우스 목록을 반환합니다.
+	 * 
+	 * <p>
+	 * 기간 중 가장 적게 남은 자리가 많은 순, 같으면 1박당 가격이 낮은 순으로 정렬됩니다.
+	 * </p>
+	 * 
+	 * @param start          체크인
+	 * @param end            체크아웃
+	 * @param numberOfPeople 투숙 인원 수
+	 * @return 예약 가능한 게스트하우스 목록
+	 */
+	List<Guesthouse> findAvailableGH(LocalDate start, LocalDate end, int numberOfPeople);
+
+	/**
+	 * 기간 내 모든 날짜에 해당 인원을 받을 수 있는 게스트하우스 수를 반환합니다.
+	 * 
+	 * @param start          체크인
+	 * @param end            체크아웃
+	 * @param numberOfPeople 투숙 인원 수
+	 * @return 예약 가능한 게스트하우스 수
+	 */
+	int countAvailableGH(LocalDate start, LocalDate end, int numberOfPeople);
+
 	/**
 	 * 예약이 불가능한 경우, 고객의 예약 요청을 대기열에 우선순위와 함께 추가합니다.
 	 *
@@ -89,6 +165,16 @@ public interface BookingService {
 	 */
 	void enqueueWaitingRequest(Customer c, Booking b, LocalDateTime requestDate);
 
+	/**
+	 * 고객이 정한 기한까지만 기다리도록 예약 요청을 대기열에 추가합니다. 기한이나 체크인 날짜가 지나면 대기열에서 제거됩니다.
+	 *
+	 * @param c           예약을 요청한 고객
+	 * @param b           예약 정보
+	 * @param requestDate 예약 우선순위 (값이 낮을수록 우선)
+	 * @param deadline    대기 기한 ({@code null}이면 체크인 날짜까지)
+	 */
+	void enqueueWaitingRequest(Customer c, Booking b, LocalDateTime requestDate, LocalDateTime deadline);
+
 	/**
 	 * 예약이 취소되어 자리가 날 경우, 대기열에서 우선순위가 높은 예약 요청을 확인하여 자동으로 예약을 처리합니다. 조건에 맞는 예약이 있을
 	 * 경우 단 한 건만 처리됩니다.
@@ -1,13 +1,21 @@
 package com.gh.service;
 
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.gh.exception.BookingCancelledException;
 import com.gh.exception.BookingNotFoundException;
@@ -25,6 +33,29 @@ import com.gh.user.Customer;
  * 싱글톤 패턴을 적용하여 하나의 인스턴스만 사용되도록 구현되어 있습니다.
  * </p>
  * 
+ * <p>
+ * 여러 스레드에서 동시에 호출할 수 있습니다. 예약 가능 여부 확인, 결제, 인원 반영은 게스트하우스 ID로 고른 스트라이프 락 안에서
+ * 한 번에 처리되므로 같은 숙소의 예약은 초과 예약 없이 순서대로 처리되고, 다른 숙소의 예약은 전역 락 없이 병렬로 처리됩니다. 계좌
+ * 잔액 확인과 차감은 {@link Account#withdraw(double)}로 원자적으로 처리됩니다.
+ * </p>
+ * 
+ * <p>
+ * {@link #setReservationMode(ReservationMode)}로 {@link ReservationMode#OPTIMISTIC}을 선택하면 예약 생성과 변경이
+ * 락 없이 날짜별 원자적 카운터의 CAS로 처리됩니다.
+ * </p>
+ * 
+ * <p>
+ * 예약 변경은 {@link BookingRepository}에 기록되며, 기본 저장소는 CSV 저널 파일({@link FileBookingRepository})입니다.
+ * {@link #setRepository(BookingRepository)}로 디스크 B-트리({@link BTreeBookingRepository}) 등 다른 저장소를 사용할 수
+ * 있습니다. 같은 변경은 순번이 붙은 변경 스트림({@link #getChangeStream()})으로도 내보내므로, 보고서 등은 파일 전체를 다시
+ * 읽지 않고 마지막으로 처리한 순번 이후의 변경만 처리할 수 있습니다.
+ * </p>
+ * 
+ * <p>
+ * 예약 생성, 변경, 취소의 금액은 매출 장부({@link #getRevenueLedger()})에 게스트하우스별, 월별로 바로 누적되므로 월, 분기, 연
+ * 매출은 예약 목록을 다시 읽지 않고 조회할 수 있습니다.
+ * </p>
+ * 
  * @author 소유나, 양준용, 우승환
  */
 
@@ -32,11 +63,274 @@ public class BookingServiceImpl implements BookingService {
 	private static final BookingServiceImpl service = new BookingServiceImpl();
 	private static final GuesthouseManager guesthouseManager = new GuesthouseManager();
 
-	private final List<Booking> bookings = new ArrayList<>();
+	/** 게스트하우스별 예약 처리 락 개수 */
+	private static final int LOCK_STRIPES = 64;
+
+	/** 전체 예약과 게스트하우스별, 고객별, 상태별 색인 */
+	private final BookingStore bookings = new BookingStore();
 	private final List<Guesthouse> guestHouses = new ArrayList<>();
+	private final AvailabilityEngine availabilityEngine = new AvailabilityEngine();
+	private final StripedLock houseLocks = new StripedLock(LOCK_STRIPES);
+	private volatile ReservationMode reservationMode = ReservationMode.LOCKING;
+	/** 대기열 자동 예약은 한 번에 하나의 스레드만 처리 */
+	private final ReentrantLock waitingListLock = new ReentrantLock();
+	/** 취소로 생긴 자리에 대기 요청을 고르는 방식 */
+	private volatile PromotionPolicy promotionPolicy = PromotionPolicy.FIFO_BACKFILL;
+	/** {@link PromotionPolicy#MAX_UTILIZATION}에서 가장 오래된 대기 요청 이후로 순서를 바꿔도 되는 기간 */
+	private volatile Duration fairnessWindow = Duration.ofMinutes(30);
+	/** 예약 변경을 기록하고 불러오는 저장소 */
+	private volatile BookingRepository repository = new FileBookingRepository();
+	/** loadBookings에서 메모리에 불러올 지난 예약의 기간 (체크인 기준, {@code null}이면 모든 예약) */
+	private volatile Period historyWindow = Period.ofYears(1);
+	/** 저장소에서 나중에 불러온 예약을 연결할 게스트하우스 ID → 게스트하우스, 이메일 → 고객 (loadBookings에서 등록) */
+	private final Map<String, Guesthouse> housesById = new ConcurrentHashMap<>();
+	private final Map<String, Customer> customersByEmail = new ConcurrentHashMap<>();
+	/** 예약 생성, 변경, 취소, 대기 등록, 대기열 자동 예약을 순서대로 내보내는 변경 스트림 */
+	private final BookingChangeStream changeStream = new BookingChangeStream(
+			Paths.get(BookingChangeStream.DEFAULT_FILE));
+	/** 게스트하우스별, 월별 매출 (예약 생성, 변경, 취소 시 갱신) */
+	private final RevenueLedger revenueLedger = new RevenueLedger();
 
+	/**
+	 * @return 전체 예약 목록의 복사본 (등록 순서)
+	 */
 	public List<Booking> getBookings() {
-		return bookings;
+		return snapshotBookings();
+	}
+
+	/**
+	 * 파일에서 불러온 예약을 고객과 시스템 예약 목록에 복원하고 매출 장부에 더합니다. 결제와 인원 반영은 하지 않습니다.
+	 *
+	 * @param c 예약한 고객
+	 * @param b 복원할 예약 (예약 ID 필수)
+	 * @return 복원했으면 {@code true}, 같은 예약 ID가 이미 있으면 {@code false}
+	 */
+	public boolean restoreBooking(Customer c, Booking b) {
+		if (!bookings.putIfAbsent(c, b)) {
+			return false;
+		}
+		revenueLedger.add(b);
+		return true;
+	}
+
+	/**
+	 * 파일에서 불러온 예약 여러 건을 고객과 시스템 예약 목록에 한 번에 복원하고 매출 장부에 더합니다. 결제와 인원 반영은 하지 않습니다.
+	 *
+	 * @param c      예약한 고객
+	 * @param loaded 복원할 예약 목록 (예약 ID 필수)
+	 * @return 실제로 복원된 예약 목록 (같은 예약 ID가 이미 있던 예약은 제외)
+	 */
+	public List<Booking> restoreBookings(Customer c, List<Booking> loaded) {
+		List<Booking> restored = bookings.putAllIfAbsent(c, loaded);
+		for (Booking b : restored) {
+			revenueLedger.add(b);
+		}
+		return restored;
+	}
+
+	/**
+	 * 저장소에서 체크인이 {@link #setHistoryWindow(Period)} 기간 안이거나 이후인 예약을 불러와 고객과 시스템 예약 목록에 복원하고,
+	 * 취소되지 않은 예약의 인원을 숙소에 반영합니다. 숙소별 인원은 숙소마다 다른 스레드에서 병렬로 반영합니다. 이미 불러온 예약은 다시
+	 * 반영하지 않습니다. 그보다 오래된 예약은 예약 ID로 조회할 때 저장소에서 불러옵니다.
+	 *
+	 * @param customers      예약과 연결할 고객 목록
+	 * @param guesthouseList 불러올 게스트하우스 목록
+	 */
+	public void loadBookings(List<Customer> customers, List<Guesthouse> guesthouseList) {
+		for (Guesthouse g : guesthouseList) {
+			housesById.putIfAbsent(g.getBookingId(), g);
+		}
+		for (Customer c : customers) {
+			customersByEmail.putIfAbsent(c.getEmail(), c);
+		}
+
+		Period window = historyWindow;
+		LocalDate from = window == null ? null : LocalDate.now().minus(window);
+		Map<Customer, List<Booking>> byCustomer = new LinkedHashMap<>();
+		for (Booking b : repository.load(customers, guesthouseList, from, null)) {
+			byCustomer.computeIfAbsent(b.getCustomer(), k -> new ArrayList<>()).add(b);
+		}
+
+		Map<Guesthouse, List<Booking>> byGuesthouse = new LinkedHashMap<>();
+		for (Map.Entry<Customer, List<Booking>> entry : byCustomer.entrySet()) {
+			for (Booking b : restoreBookings(entry.getKey(), entry.getValue())) {
+				if (!b.getIsCancled()) {
+					byGuesthouse.computeIfAbsent(b.getGuesthouse(), k -> new ArrayList<>()).add(b);
+				}
+			}
+		}
+		byGuesthouse.values().parallelStream().forEach(stays -> {
+			for (Booking b : stays) {
+				b.getGuesthouse().addPeople(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+			}
+		});
+
+		restoreWaitingList(customers, guesthouseList);
+	}
+
+	/**
+	 * 대기열 로그를 한 번 읽어 남아 있는 대기 요청을 대기열에 복원합니다. 게스트하우스나 고객을 찾을 수 없는 요청은 로그에 그대로 두고
+	 * 복원하지 않습니다.
+	 */
+	private void restoreWaitingList(List<Customer> customers, List<Guesthouse> guesthouseList) {
+		Map<String, Guesthouse> houses = new HashMap<>();
+		for (Guesthouse g : guesthouseList) {
+			houses.putIfAbsent(g.getBookingId(), g);
+		}
+		Map<String, Customer> byEmail = new HashMap<>();
+		for (Customer c : customers) {
+			byEmail.putIfAbsent(c.getEmail(), c);
+		}
+
+		List<WaitingRequest> restored = new ArrayList<>();
+		int skipped = 0;
+		for (WaitlistJournal.Entry e : waitlistJournal.recover()) {
+			Guesthouse gh = houses.get(e.guesthouseId);
+			Customer customer = e.customerEmail == null ? null : byEmail.get(e.customerEmail);
+			if (gh == null || customer == null) {
+				skipped++;
+				continue;
+			}
+			Booking b = new Booking(e.bookingId, e.getStartDate(), e.getEndDate(), e.bookingDays, e.numberOfPeople, gh);
+			restored.add(new WaitingRequest(customer, b, e.requestDateTime, e.sequence, e.deadline));
+		}
+		// 중단된 동안 만료된 요청은 다음 틱에 제거됨
+		for (WaitingRequest request : waitingList.restoreAll(restored)) {
+			scheduleExpiry(request);
+		}
+		if (skipped > 0) {
+			System.out.println("게스트하우스나 고객을 찾을 수 없어 복원하지 않은 대기 요청: " + skipped + "건");
+		}
+	}
+
+	/**
+	 * 예약을 기록할 저장소를 변경합니다. 기본값은 {@link FileBookingRepository}이며, 이미 기록된 예약은 새 저장소로 옮겨지지
+	 * 않습니다.
+	 *
+	 * @param repository 예약 저장소
+	 */
+	public void setRepository(BookingRepository repository) {
+		this.repository = Objects.requireNonNull(repository);
+	}
+
+	/**
+	 * @return 현재 예약 저장소
+	 */
+	public BookingRepository getRepository() {
+		return repository;
+	}
+
+	/**
+	 * {@link #loadBookings(List, List)}가 메모리에 불러올 지난 예약의 기간을 변경합니다. 기본값은 1년입니다.
+	 *
+	 * <p>
+	 * 체크인이 오늘에서 이 기간을 뺀 날짜보다 이전인 예약은 저장소에만 두고, 예약 ID로 조회하거나 변경, 취소할 때 저장소에서 불러옵니다.
+	 * 고객별, 숙소별 조회와 매출 장부에는 메모리에 불러온 예약만 포함됩니다. 체크인이 이 기간보다 이전이고 아직 체크아웃하지 않은 예약은
+	 * 숙소 인원에 반영되지 않으므로, 기간은 가장 긴 숙박보다 길어야 합니다.
+	 * </p>
+	 *
+	 * @param window 불러올 기간 ({@code null}이면 모든 예약)
+	 */
+	public void setHistoryWindow(Period window) {
+		historyWindow = window;
+	}
+
+	/**
+	 * 예약 변경을 구독하거나 마지막 순번을 확인할 때 사용합니다.
+	 *
+	 * @return 예약 변경 스트림
+	 */
+	public BookingChangeStream getChangeStream() {
+		return changeStream;
+	}
+
+	/**
+	 * 월, 분기, 연 매출을 예약 목록을 다시 읽지 않고 조회할 때 사용합니다.
+	 *
+	 * @return 매출 장부
+	 */
+	public RevenueLedger getRevenueLedger() {
+		return revenueLedger;
+	}
+
+	/**
+	 * 취소로 생긴 자리의 대기열 자동 예약이 끝나고, 지금까지 저장을 요청한 예약 변경이 모두 저장소에 기록될 때까지 기다립니다.
+	 */
+	public void flush() {
+		waitlistWorker.awaitIdle();
+		repository.flush();
+		changeStream.flush();
+	}
+
+	/**
+	 * 예약 시 자리 확보 방식을 변경합니다. 등록된 모든 게스트하우스의 날짜별 인원 저장 방식도 함께 바뀌므로, 예약이 처리되는 중에는
+	 * 호출하지 않아야 합니다.
+	 *
+	 * @param mode 자리 확보 방식
+	 */
+	public synchronized void setReservationMode(ReservationMode mode) {
+		reservationMode = mode;
+		for (Guesthouse gh : guestHouses) {
+			gh.setOptimisticReservation(mode == ReservationMode.OPTIMISTIC);
+		}
+	}
+
+	/**
+	 * @return 현재 자리 확보 방식
+	 */
+	public ReservationMode getReservationMode() {
+		return reservationMode;
+	}
+
+	/**
+	 * 취소로 자리가 생겼을 때 대기 요청을 자동 예약하는 방식을 변경합니다.
+	 *
+	 * @param policy 자동 예약 방식
+	 */
+	public void setPromotionPolicy(PromotionPolicy policy) {
+		promotionPolicy = Objects.requireNonNull(policy);
+	}
+
+	/**
+	 * @return 현재 대기열 자동 예약 방식
+	 */
+	public PromotionPolicy getPromotionPolicy() {
+		return promotionPolicy;
+	}
+
+	/**
+	 * {@link PromotionPolicy#MAX_UTILIZATION}에서 자리를 더 많이 채우기 위해 순서를 바꿔도 되는 기간을 변경합니다. 가장 오래된
+	 * 대기 요청 이후 이 기간 안에 들어온 요청끼리만 순서가 바뀔 수 있습니다.
+	 *
+	 * @param window 공정성 기간 (0이면 요청 시각이 같은 요청끼리만 비교)
+	 */
+	public void setFairnessWindow(Duration window) {
+		if (window.isNegative()) {
+			throw new IllegalArgumentException("공정성 기간은 0 이상이어야 합니다: " + window);
+		}
+		fairnessWindow = window;
+	}
+
+	/**
+	 * @return 현재 공정성 기간
+	 */
+	public Duration getFairnessWindow() {
+		return fairnessWindow;
+	}
+
+	/**
+	 * 예약 시스템에서 다룰 게스트하우스를 등록합니다. 등록된 숙소만 빈자리 검색 대상이 됩니다.
+	 *
+	 * @param ghList 등록할 게스트하우스 목록
+	 */
+	public synchronized void registerGuesthouses(List<Guesthouse> ghList) {
+		for (Guesthouse gh : ghList) {
+			if (!guestHouses.contains(gh)) {
+				gh.setOptimisticReservation(reservationMode == ReservationMode.OPTIMISTIC);
+				guestHouses.add(gh);
+				availabilityEngine.register(gh);
+			}
+		}
 	}
 
 	private BookingServiceImpl() {
@@ -60,9 +354,64 @@ public class BookingServiceImpl implements BookingService {
 	 */
 
 	public void addBooking(Customer c, Booking b) throws InsufficientBalanceException {
+		BookingResult result = book(c, b, true, BookingChange.Type.CREATED);
+		System.out.println(result.getMessage());
+
+		switch (result.getStatus()) {
+		case BOOKED:
+			System.out.println("차감 금액: " + b.getTotalAmount() + ", 남은 잔액: " + c.getAccount().getBalance());
+			repository.save(Collections.singletonList(new BookingEvent(BookingEvent.Type.CREATED, b, c)));
+			break;
+		case INSUFFICIENT_BALANCE:
+			throw new InsufficientBalanceException(result.getMessage());
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * 여러 건의 예약을 한 번에 처리합니다.
+	 * <p>
+	 * 각 예약의 검증, 요금 계산, 자리 확보와 결제는 {@link #addBooking(Customer, Booking)}과 같게 처리되지만, 잔액 부족은
+	 * 예외 대신 결과로 기록되고 나머지 예약은 계속 처리됩니다. 예약 저널은 모든 예약을 처리한 뒤 한 번에 기록됩니다.
+	 * </p>
+	 *
+	 * @param c        예약하는 고객
+	 * @param requests 예약 정보 목록
+	 * @return 요청 순서대로의 예약별 처리 결과
+	 */
+	@Override
+	public List<BookingResult> addBookings(Customer c, List<Booking> requests) {
+		List<BookingResult> results = new ArrayList<>(requests.size());
+		List<BookingEvent> created = new ArrayList<>();
+		for (Booking b : requests) {
+			BookingResult result = book(c, b, true, BookingChange.Type.CREATED);
+			if (result.getStatus() == BookingResult.Status.BOOKED) {
+				created.add(new BookingEvent(BookingEvent.Type.CREATED, b, c));
+			}
+			results.add(result);
+		}
+
+		if (!created.isEmpty()) {
+			repository.save(created);
+		}
+		System.out.println("일괄 예약 처리 완료: 요청 " + requests.size() + "건 중 " + created.size() + "건 예약, 남은 잔액: "
+				+ c.getAccount().getBalance());
+		return results;
+	}
+
+	/**
+	 * 예약 한 건을 검증하고 요금 계산, 자리 확보, 결제, 예약 목록 반영, 변경 스트림 발행까지 처리합니다. 파일 저장은 하지 않습니다.
+	 *
+	 * @param c              고객 객체
+	 * @param b              예약 정보 객체
+	 * @param enqueueIfFull  수용 인원 초과 시 예약 대기열에 등록할지 여부
+	 * @param type           예약되었을 때 발행할 변경 종류
+	 * @return 처리 결과
+	 */
+	private BookingResult book(Customer c, Booking b, boolean enqueueIfFull, BookingChange.Type type) {
 		if (b == null) {
-			System.out.println("예약 정보가 유효하지 않습니다.");
-			return;
+			return new BookingResult(null, BookingResult.Status.REJECTED, "예약 정보가 유효하지 않습니다.");
 		}
 
 		Guesthouse gh = b.getGuesthouse(); // 예약 대상인 게스트하우스 객체 가져오기
@@ -76,45 +425,92 @@ public class BookingServiceImpl implements BookingService {
 
 		// 게스트하우스의 최대 수용인원 < 예약 인원일 경우
 		if (gh.getMaxPeople() < b.getNumberOfPeople()) {
-			System.out.println("예약 인원이 게스트하우스 최대 수용 인원보다 많아 예약할 수 없습니다.");
-			return;
+			return new BookingResult(b, BookingResult.Status.REJECTED,
+					"예약 인원이 게스트하우스 최대 수용 인원보다 많아 예약할 수 없습니다.");
 		}
 
 		double pricePerDay = gh.getPricePerDays(); // 1박당 가격
 		double totalPrice = pricePerDay * days * people; // 총 결제 금액 계산
 		b.setTotalAmount(totalPrice); // 예약 객체에 총 결제 금액 설정
 
-		// 예약 가능 여부 확인(해당 날짜에 인원 수용 가능한지)
-		boolean canBook = gh.canBook(startDate, endDate, people);
-
-		if (!canBook) {
-			System.out.println("예약 불가: 해당 날짜의 최대 수용 인원을 초과합니다.");
-			enqueueWaitingRequest(c, b, LocalDateTime.now()); // 예약 대기열 추가
-			return;
+		// 예약 가능 여부 확인(해당 날짜에 인원 수용 가능한지) 및 결제
+		String bookingId = UUID.randomUUID().toString();
+		try {
+			if (!reserve(gh, account, startDate, endDate, people, totalPrice, () -> {
+				// 예약 ID 설정 및 저장 (자리를 확보한 락 안에서 처리하여 같은 게스트하우스의 다른 변경과 순번이 어긋나지 않도록)
+				b.setBookingId(bookingId);
+				bookings.put(c, b);
+				revenueLedger.add(b);
+				changeStream.publish(type, b, c);
+			})) {
+				if (enqueueIfFull) {
+					enqueueWaitingRequest(c, b, LocalDateTime.now()); // 예약 대기열 추가
+				}
+				return new BookingResult(b, BookingResult.Status.WAITLISTED, "예약 불가: 해당 날짜의 최대 수용 인원을 초과합니다.");
+			}
+		} catch (InsufficientBalanceException e) {
+			return new BookingResult(b, BookingResult.Status.INSUFFICIENT_BALANCE, e.getMessage());
 		}
 
-		// 잔액 확인
-		if (account.getBalance() < totalPrice) {
-			throw new InsufficientBalanceException(
-					"잔액 부족으로 예약할 수 없습니다. 필요 금액: " + totalPrice + ", 현재 잔액: " + account.getBalance());
+		return new BookingResult(b, BookingResult.Status.BOOKED, "예약이 완료되었습니다. 예약 번호: " + bookingId);
+	}
 
+	/**
+	 * 게스트하우스의 자리를 확보하고 결제합니다.
+	 * <p>
+	 * {@link ReservationMode#LOCKING}이면 게스트하우스 스트라이프 락 안에서 확인, 결제, 인원 반영을 처리하고,
+	 * {@link ReservationMode#OPTIMISTIC}이면 락 없이 CAS로 자리를 먼저 확보한 뒤 결제에 실패하면 확보한 자리를 되돌립니다.
+	 * 자리를 확보하면 같은 게스트하우스 락 안에서 {@code onReserved}를 실행합니다 (OPTIMISTIC이면 이 작업에만 락을 잡음).
+	 * </p>
+	 *
+	 * @param onReserved 자리 확보와 결제에 성공했을 때 락 안에서 실행할 작업
+	 * @return 자리를 확보하고 결제까지 마쳤으면 {@code true}, 수용 인원 초과면 {@code false}
+	 * @throws InsufficientBalanceException 잔액이 부족한 경우 (확보한 자리는 없음)
+	 */
+	private boolean reserve(Guesthouse gh, Account account, LocalDate startDate, LocalDate endDate, int people,
+			double totalPrice, Runnable onReserved) throws InsufficientBalanceException {
+		if (reservationMode == ReservationMode.OPTIMISTIC) {
+			if (!gh.tryReserve(startDate, endDate, people)) {
+				return false;
+			}
+			if (!account.withdraw(totalPrice)) {
+				gh.removePeople(startDate, endDate, people);
+				throw new InsufficientBalanceException(
+						"잔액 부족으로 예약할 수 없습니다. 필요 금액: " + totalPrice + ", 현재 잔액: " + account.getBalance());
+			}
+			gh.addSales(totalPrice);
+			ReentrantLock lock = houseLocks.get(gh.getBookingId());
+			lock.lock();
+			try {
+				onReserved.run();
+			} finally {
+				lock.unlock();
+			}
+			return true;
 		}
 
-		// 결제 및 예약 처리
-		account.setBalance(account.getBalance() - totalPrice);
-		gh.setTotalSales(gh.getTotalSales() + totalPrice);
-		gh.addPeople(startDate, endDate, people);
-
-		// 예약 ID 설정 및 저장
-		String bookingId = UUID.randomUUID().toString();
-		b.setBookingId(bookingId);
+		// 예약 가능 여부 확인부터 인원 반영까지는 같은 게스트하우스에 대해 한 번에 하나씩만 처리
+		ReentrantLock lock = houseLocks.get(gh.getBookingId());
+		lock.lock();
+		try {
+			if (!gh.canBook(startDate, endDate, people)) {
+				return false;
+			}
 
-		bookings.add(b);
-		c.getBookings().add(b);
+			// 잔액 확인 및 결제
+			if (!account.withdraw(totalPrice)) {
+				throw new InsufficientBalanceException(
+						"잔액 부족으로 예약할 수 없습니다. 필요 금액: " + totalPrice + ", 현재 잔액: " + account.getBalance());
+			}
 
-		System.out.println("예약이 완료되었습니다. 예약 번호: " + bookingId);
-		System.out.println("차감 금액: " + totalPrice + ", 남은 잔액: " + account.getBalance());
-		BookingFileManager.saveBookings(bookings, c);
+			// 예약 처리
+			gh.addSales(totalPrice);
+			gh.addPeople(startDate, endDate, people);
+			onReserved.run();
+			return true;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -131,56 +527,65 @@ public class BookingServiceImpl implements BookingService {
 	 */
 	public void deleteBooking(Customer c, String bookingId)
 			throws BookingCancelledException, InsufficientBalanceException, BookingNotFoundException {
-		Booking target = null;
-
 		// 예약 ID로 예약 찾기
-		for (Booking b : bookings) {
-			if (b.getBookingId().equals(bookingId)) {
-				target = b;
-				break;
-			}
-		}
+		Booking target = lookupBooking(bookingId);
 
 		// 예약이 없으면 종료
 		if (target == null) {
 			throw new BookingNotFoundException("해당 예약을 찾을 수 없습니다.");
 		}
 
-		// 이미 취소된 예약이면 메시지 출력 후 종료
-		if (target.getIsCancled()) {
-			throw new BookingCancelledException("취소된 예약은 변경이나 재취소가 불가능합니다.");
-		}
-
-		// 취소 가능 날짜인지 확인 (체크인 3일 전까지 가능)
-		LocalDate today = LocalDate.now();
-		LocalDate checkIn = target.getStartDate();
-
-		if (!today.isBefore(checkIn.minusDays(2))) {
-			throw new BookingCancelledException("체크인 3일 전 이후에는 취소가 불가능합니다.");
-		}
-
 		// 고객, 게스트하우스, 계좌 정보 불러오기
 		Guesthouse gh = target.getGuesthouse();
 		Account account = c.getAccount();
+		double refundAmount;
+
+		// 취소 여부 확인부터 환불까지는 같은 게스트하우스에 대해 한 번에 하나씩만 처리 (중복 환불 방지)
+		ReentrantLock lock = houseLocks.get(gh.getBookingId());
+		lock.lock();
+		try {
+			// 이미 취소된 예약이면 메시지 출력 후 종료
+			if (target.getIsCancled()) {
+				throw new BookingCancelledException("취소된 예약은 변경이나 재취소가 불가능합니다.");
+			}
+			// 락을 잡기 전에 다른 요청이 예약을 변경했으면 변경 전 자리를 비우지 않도록 중단
+			if (lookupBooking(bookingId) != target) {
+				throw new BookingCancelledException("다른 요청으로 변경된 예약입니다. 다시 조회 후 시도해주세요.");
+			}
 
-		// 예약 정보로 환불 금액 계산
-		int people = target.getNumberOfPeople();
-		int days = target.getBookingDays();
-		double refundAmount = people * days * target.getGuesthouse().getPricePerDays() * 0.5; // 50% 환불
+			// 취소 가능 날짜인지 확인 (체크인 3일 전까지 가능)
+			LocalDate today = LocalDate.now();
+			LocalDate checkIn = target.getStartDate();
 
-		// 환불 처리
-		account.setBalance(account.getBalance() + refundAmount); // 계좌에 환불 금액 입금
-		gh.setTotalSales(gh.getTotalSales() - refundAmount); // 게스트하우스 매출 차감
-		gh.removePeople(target.getStartDate(), target.getEndDate(), people); // 예약 인원 감소
+			if (!today.isBefore(checkIn.minusDays(2))) {
+				throw new BookingCancelledException("체크인 3일 전 이후에는 취소가 불가능합니다.");
+			}
 
-		target.setIsCancled(true); // 예약 상태를 취소됨으로 표시
+			// 예약 정보로 환불 금액 계산
+			int people = target.getNumberOfPeople();
+			int days = target.getBookingDays();
+			refundAmount = people * days * target.getGuesthouse().getPricePerDays() * RevenueLedger.REFUND_RATE; // 50% 환불
+
+			// 환불 처리
+			account.deposit(refundAmount); // 계좌에 환불 금액 입금
+			gh.addSales(-refundAmount); // 게스트하우스 매출 차감
+			gh.removePeople(target.getStartDate(), target.getEndDate(), people); // 예약 인원 감소
+
+			bookings.markCancelled(target); // 예약 상태를 취소됨으로 표시
+			// 장부는 결제 금액 기준으로 누적하므로 같은 기준으로 차감 (결제 금액이 없는 이전 형식 예약은 0)
+			revenueLedger.record(gh, target.getStartDate(), -(target.getTotalAmount() * RevenueLedger.REFUND_RATE));
+			changeStream.publish(BookingChange.Type.CANCELLED, target, c);
+		} finally {
+			lock.unlock();
+		}
 
 		// 성공 메시지 출력
 		System.out.println("예약이 성공적으로 취소되었습니다. 환불 금액: " + refundAmount);
 		System.out.println("현재 잔액: " + account.getBalance() + ", 게스트하우스 총 매출: " + gh.getTotalSales());
 
-		processWaitingList(); // 예약이 취소되었으니 대기열 자동 예약 시도
-		BookingFileManager.saveBookings(bookings, c);
+		repository.save(Collections.singletonList(new BookingEvent(BookingEvent.Type.CANCELLED, target, c)));
+		// 대기열 자동 예약은 대기열 처리 스레드에 넘기고 바로 반환 (취소 시간이 대기열 길이와 무관하도록)
+		waitlistWorker.capacityFreed(gh, target.getStartDate(), target.getEndDate());
 	}
 
 	/**
@@ -192,47 +597,32 @@ public class BookingServiceImpl implements BookingService {
 	 * @param c 고객 객체
 	 * @param b 수정된 예약 정보 객체 (기존 예약과 동일한 bookingId 필수)
 	 * @throws InsufficientBalanceException 변경 예약 금액이 부족할 경우
-	 * @throws BookingCancelledException    취소된 예약을 수정하려는 경우
+	 * @throws BookingCancelledException    취소된 예약이거나 다른 요청으로 이미 변경된 예약을 수정하려는 경우
 	 */
 	@Override
 	public void updateBooking(Customer c, Booking b) throws InsufficientBalanceException, BookingCancelledException {
 
-		// 1. 고객이 이 예약을 실제로 가지고 있는지 확인
-		// 수정하려는 booking의 정보가 고객이 가지고 있는 예약이 맞다면 진행
-		boolean bookingExists = false;
+		// 1. 시스템 전체 예약 목록에서 수정하려는 예약의 기존 정보 찾기
+		Booking original = lookupBooking(b.getBookingId());
 
-		for (Booking booking : c.getBookings()) {
-			if (booking.getBookingId().equals(b.getBookingId())) {
-				bookingExists = true;
-				break;
-			}
+		if (original == null) {
+			throw new BookingCancelledException("해당 예약을 찾을 수 없습니다: " + b.getBookingId());
 		}
 
-		if (!bookingExists) {
+		// 2. 고객이 이 예약을 실제로 가지고 있는지 확인
+		// 수정하려는 booking의 정보가 고객이 가지고 있는 예약이 맞다면 진행
+		Customer owner = original.getCustomer();
+		if (owner == null || !owner.getEmail().equals(c.getEmail())) {
 			throw new BookingCancelledException("고객의 예약 정보가 없습니다.");
 		}
 
-		// 2. 예약이 취소되었는지 확인
+		// 3. 예약이 취소되었는지 확인
 		// 취소된 예약인지 여부 검증
 		if (b.getIsCancled()) {
 			System.out.println("취소된 예약입니다.");
 			return;
 		}
 
-		// 3. 시스템 전체 예약 목록에서 해당 예약 찾기
-		// 수정하려는 예약의 기존 정보 찾기
-		Booking original = null;
-		for (Booking booking : bookings) {
-			if (booking.getBookingId().equals(b.getBookingId())) {
-				original = booking;
-				break;
-			}
-		}
-
-		if (original == null) {
-			throw new BookingCancelledException("해당 예약을 찾을 수 없습니다: " + b.getBookingId());
-		}
-
 		// 4. 기존 예약에 대해 환불 처리
 		// 수정하려는 예약의 게스트하우스와 고객의 계좌 정보
 		Guesthouse gh = b.getGuesthouse();
@@ -244,75 +634,157 @@ public class BookingServiceImpl implements BookingService {
 		double rate = gh.getPricePerDays();
 		double originalPrice = originalDays * originalPeople * rate;
 
-		// 기존 예약 환불
-		account.setBalance(account.getBalance() + originalPrice);
-		gh.setTotalSales(gh.getTotalSales() - originalPrice);
+		// 새 예약 요금 계산
+		int days = b.getBookingDays();
+		int people = b.getNumberOfPeople();
+		double totalPrice = days * people * rate;
+
+		// 기존 예약의 상태 확인부터 예약 목록 반영까지는 기존 예약의 게스트하우스 락 안에서 처리 (동시 취소, 변경과 같은 자리를 두 번
+		// 비우지 않도록). LOCKING이면 새 게스트하우스도 함께 잠그고, OPTIMISTIC이면 자리는 락 없이 CAS로 옮김
+		boolean optimistic = reservationMode == ReservationMode.OPTIMISTIC;
+		int[] locked = optimistic ? houseLocks.lockAll(original.getGuesthouse().getBookingId())
+				: houseLocks.lockAll(gh.getBookingId(), original.getGuesthouse().getBookingId());
+		boolean changed;
+		try {
+			if (original.getIsCancled() || lookupBooking(b.getBookingId()) != original) {
+				throw new BookingCancelledException("예약이 이미 취소되었거나 다른 요청으로 변경되었습니다. 다시 조회 후 시도해주세요.");
+			}
+
+			// 5 ~ 9. 기존 예약 인원 제거, 새 예약 가능 여부 확인, 차액 결제, 새 예약 인원 반영
+			changed = optimistic ? moveOptimistic(original, b, account, originalPrice, totalPrice)
+					: moveLocked(original, b, account, originalPrice, totalPrice);
+
+			if (changed) {
+				// 10. 예약 정보 시스템과 고객 예약 목록, 매출 장부에 반영 (같은 예약 ID이므로 기존 자리를 대체)
+				revenueLedger.record(original.getGuesthouse(), original.getStartDate(), -original.getTotalAmount());
+				b.setTotalAmount(totalPrice);
+				bookings.put(c, b);
+				revenueLedger.add(b);
+				changeStream.publish(BookingChange.Type.UPDATED, b, c);
+			}
+		} finally {
+			houseLocks.unlockAll(locked);
+		}
 
-		// 5. 기존 예약 인원을 날짜별로 제거
-		gh.removePeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
+		if (changed) {
+			repository.save(Collections.singletonList(new BookingEvent(BookingEvent.Type.UPDATED, b, c)));
 
-		// 6. 새로운 예약이 가능한지 확인
-		boolean canBook = gh.canBook(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+			System.out.println("예약이 성공적으로 변경되었습니다: " + b.getStartDate() + " ~ " + b.getEndDate());
+			System.out.println("차감 금액: " + totalPrice + ", 남은 잔액: " + account.getBalance());
+			System.out.println("게스트하우스 총 매출: " + gh.getTotalSales());
 
-		if (canBook) {
-			// 새 예약 요금 계산
-			int days = b.getBookingDays();
-			int people = b.getNumberOfPeople();
-			double totalPrice = days * people * rate;
+		} else {
+			System.out.println("예약 변경 실패: 최대 수용 인원 초과");
 
-			// 7. 예약이 가능할 경우 새 요금 계산 및 잔액 검사
-			if (account.getBalance() < totalPrice) {
+		}
+	}
 
-				// 기존 예약 복구
-				account.setBalance(account.getBalance() - originalPrice);
-				gh.setTotalSales(gh.getTotalSales() + originalPrice);
-				gh.addPeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
-				throw new InsufficientBalanceException(
-						"잔액 부족으로 예약 변경이 불가합니다. 필요 금액: " + totalPrice + " / 현재 잔액: " + account.getBalance());
-			}
+	/**
+	 * 기존 인원 제거, 재확인, 차액 결제, 새 인원 반영을 한 번에 처리합니다. 호출하는 쪽에서 기존 예약과 새 예약의 게스트하우스 락을
+	 * 모두 잡고 있어야 합니다.
+	 *
+	 * @return 변경에 성공하면 {@code true}, 수용 인원 초과로 기존 예약을 복구했으면 {@code false}
+	 * @throws InsufficientBalanceException 잔액이 부족한 경우 (기존 예약은 복구됨)
+	 */
+	private boolean moveLocked(Booking original, Booking b, Account account, double originalPrice, double totalPrice)
+			throws InsufficientBalanceException {
+		Guesthouse gh = b.getGuesthouse();
+		Guesthouse originalGh = original.getGuesthouse();
 
-			// 8. 예약이 가능하고 잔액도 충분한 경우: 결제 수행
-			account.setBalance(account.getBalance() - totalPrice);
-			gh.setTotalSales(gh.getTotalSales() + totalPrice);
+		// 기존 예약 인원을 기존 게스트하우스에서 날짜별로 제거
+		originalGh.removePeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
 
-			// 9. 날짜별 인원 다시 추가
-			gh.addPeople(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+		// 새로운 예약이 가능한지 확인
+		if (!gh.canBook(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople())) {
+			// 예약 실패 → 기존 예약 복구
+			originalGh.addPeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
+			return false;
+		}
 
-			// 10. 예약 정보 시스템에 반영
-			bookings.remove(original);
-			bookings.add(b);
+		// 기존 예약 환불 금액을 반영한 잔액으로 새 요금 결제 (차액만 원자적으로 정산)
+		if (!account.withdraw(totalPrice - originalPrice)) {
+			// 기존 예약 복구
+			originalGh.addPeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
+			throw new InsufficientBalanceException("잔액 부족으로 예약 변경이 불가합니다. 필요 금액: " + totalPrice
+					+ " / 현재 잔액: " + (account.getBalance() + originalPrice));
+		}
 
-			// 고객 예약 목록에도 반영!
-			c.getBookings().remove(original);
-			c.getBookings().add(b);
+		// 매출 정산 후 날짜별 인원 다시 추가
+		gh.addSales(totalPrice - originalPrice);
+		gh.addPeople(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+		return true;
+	}
 
-			System.out.println("예약이 성공적으로 변경되었습니다: " + b.getStartDate() + " ~ " + b.getEndDate());
-			System.out.println("차감 금액: " + totalPrice + ", 남은 잔액: " + account.getBalance());
-			System.out.println("게스트하우스 총 매출: " + gh.getTotalSales());
+	/**
+	 * 락 없이 예약을 변경합니다.
+	 * <p>
+	 * 되돌리기 쉬운 차액 결제를 먼저 하고, 자리는 {@link Guesthouse#tryMove}로 옮깁니다. 기존 예약의 자리를 먼저 비우면 그 사이에
+	 * 다른 예약이 자리를 가져가 복구할 수 없게 되므로, 새 자리를 확보한 뒤에 기존 자리를 비웁니다. 호출하는 쪽에서 기존 예약의
+	 * 게스트하우스 락을 잡고 있어야 동시 취소와 겹치지 않습니다.
+	 * </p>
+	 *
+	 * @return 변경에 성공하면 {@code true}, 수용 인원 초과로 결제를 되돌렸으면 {@code false}
+	 * @throws InsufficientBalanceException 잔액이 부족한 경우
+	 */
+	private boolean moveOptimistic(Booking original, Booking b, Account account, double originalPrice,
+			double totalPrice) throws InsufficientBalanceException {
+		Guesthouse gh = b.getGuesthouse();
+		Guesthouse originalGh = original.getGuesthouse();
 
-		} else {
-			// 예약 실패 → 기존 예약 복구
-			account.setBalance(account.getBalance() - originalPrice);
-			gh.setTotalSales(gh.getTotalSales() + originalPrice);
-			gh.addPeople(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople());
+		if (!account.withdraw(totalPrice - originalPrice)) {
+			throw new InsufficientBalanceException("잔액 부족으로 예약 변경이 불가합니다. 필요 금액: " + totalPrice + " / 현재 잔액: "
+					+ (account.getBalance() + originalPrice));
+		}
 
-			System.out.println("예약 변경 실패: 최대 수용 인원 초과");
+		boolean moved;
+		if (gh == originalGh) {
+			moved = gh.tryMove(original.getStartDate(), original.getEndDate(), original.getNumberOfPeople(),
+					b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+		} else {
+			moved = gh.tryReserve(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+			if (moved) {
+				originalGh.removePeople(original.getStartDate(), original.getEndDate(),
+						original.getNumberOfPeople());
+			}
+		}
 
+		if (!moved) {
+			// 결제 되돌리기
+			account.deposit(totalPrice - originalPrice);
+			return false;
 		}
+		gh.addSales(totalPrice - originalPrice);
+		return true;
+	}
 
-		BookingFileManager.saveBookings(bookings, c);
+	@Override
+	/**
+	 * 예약 ID로 예약을 조회합니다.
+	 *
+	 * @param bookingId 예약 ID
+	 * @return 예약 객체
+	 * @throws BookingNotFoundException 예약을 찾을 수 없는 경우
+	 */
+	public Booking findBookingById(String bookingId) throws BookingNotFoundException {
+		Booking b = lookupBooking(bookingId);
+		if (b == null) {
+			throw new BookingNotFoundException(bookingId + " 예약 정보를 찾을 수 없습니다.");
+		}
+		return b;
 	}
 
 	@Override
+	@Deprecated
 	/**
-	 * 예약 ID의 해시코드를 기반으로 예약을 조회합니다.
+	 * 예약 ID의 해시코드를 기반으로 예약을 조회합니다. 해시코드가 같은 예약이 여러 개면 먼저 등록된 예약이 반환됩니다.
 	 *
 	 * @param bookingId 해시코드 형태의 예약 ID
 	 * @return 예약 객체
 	 * @throws BookingCancelledException 예약을 찾을 수 없는 경우
+	 * @deprecated {@link #findBookingById(String)}를 사용하세요.
 	 */
 	public Booking findBooking(int bookingId) throws BookingCancelledException {
-		for (Booking b : bookings) {
+		for (Booking b : snapshotBookings()) {
 			if (b.getBookingId().hashCode() == bookingId) {
 				return b;
 			}
@@ -329,13 +801,7 @@ public class BookingServiceImpl implements BookingService {
 	 * @return 해당 게스트하우스에 대한 예약 리스트
 	 */
 	public List<Booking> findBookingByGHName(Guesthouse gh) {
-		List<Booking> find = new ArrayList<>();
-
-		for (Booking b : bookings) {
-			if (b.getGuesthouse() != null && b.getGuesthouse().getBookingId().equals(gh.getBookingId())) {
-				find.add(b);
-			}
-		}
+		List<Booking> find = bookings.findByGuesthouse(gh);
 
 		if (find.isEmpty()) {
 			System.out.println(gh.getName() + " 해당 숙소의 예약 정보가 없습니다. ");
@@ -353,18 +819,27 @@ public class BookingServiceImpl implements BookingService {
 	 * 수용 가능 인원이 full인지 파악해서 참/거짓 출력
 	 * 
 	 * <p>
-	 * canBook 활용해서 참/거짓 반환
+	 * 등록된 게스트하우스 중 해당 날짜에 인원을 받을 수 있는 숙소가 하나라도 있으면 참을 반환
 	 * </p>
 	 */
 	public boolean canAccomodate(LocalDate date, int numPeople) {
-		List<Guesthouse> guesthouses = new ArrayList<>();
-		for (Guesthouse gh : guesthouses) {
-			int current = gh.getDailyPeople().getOrDefault(date, 0);
-			if (current + numPeople > gh.getMaxPeople()) {
-				return false;
-			}
-		}
-		return true;
+		return availabilityEngine.countAvailable(date, date.plusDays(1), numPeople) > 0;
+	}
+
+	@Override
+	/**
+	 * 기간 내 인원을 받을 수 있는 게스트하우스를 남은 자리가 많은 순으로 반환
+	 */
+	public List<Guesthouse> findAvailableGH(LocalDate start, LocalDate end, int numPeople) {
+		return availabilityEngine.findAvailable(start, end, numPeople);
+	}
+
+	@Override
+	/**
+	 * 기간 내 인원을 받을 수 있는 게스트하우스 수 반환
+	 */
+	public int countAvailableGH(LocalDate start, LocalDate end, int numPeople) {
+		return availabilityEngine.countAvailable(start, end, numPeople);
 	}
 
 	@Override
@@ -376,7 +851,32 @@ public class BookingServiceImpl implements BookingService {
 	 * </p>
 	 */
 	public List<Booking> findBooking(Customer cs) {
-		return cs.getBookings();
+		return bookings.findByCustomer(cs);
+	}
+
+	@Override
+	/**
+	 * 해당 고객의 취소되지 않은 예약 조회
+	 */
+	public List<Booking> findActiveBookings(Customer cs) {
+		return bookings.findActiveByCustomer(cs);
+	}
+
+	@Override
+	/**
+	 * 상태별 전체 예약 조회
+	 */
+	public List<Booking> findBookingsByStatus(boolean isCancelled) {
+		return bookings.findByStatus(isCancelled);
+	}
+
+	@Override
+	/**
+	 * 기간 내에 숙박하는 예약 조회 (숙소, 취소 여부로 거를 수 있음)
+	 */
+	public List<Booking> findOverlappingBookings(LocalDate start, LocalDate end, Guesthouse gh,
+			boolean includeCancelled) {
+		return bookings.findOverlapping(start, end, gh, includeCancelled);
 	}
 
 	@Override
@@ -388,47 +888,60 @@ public class BookingServiceImpl implements BookingService {
 		return guesthouseManager.getRecommendedByGH(gh, customer);
 	}
 
-	/////////// 우선순위큐 예약 대기열 구현 ///////////////
-
-	private static class WaitingRequest {
-		Customer customer;
-		Booking booking;
-		LocalDateTime requestDateTime;
+	/**
+	 * 파일 저장, 조회 등 전체 예약 목록을 순회할 때 사용할 복사본을 반환합니다.
+	 */
+	private List<Booking> snapshotBookings() {
+		return bookings.findAll();
+	}
 
-		public WaitingRequest(Customer customer, Booking booking, LocalDateTime requestDateTime) {
-			this.customer = customer;
-			this.booking = booking;
-			this.requestDateTime = requestDateTime;
+	/**
+	 * 예약 ID로 예약을 찾습니다. 메모리에 없으면 저장소에서 찾아 예약 목록에 복원하고, 취소되지 않은 예약이면 인원을 숙소에 반영합니다.
+	 * 저장소에도 없거나 예약의 게스트하우스, 고객을 찾을 수 없으면 {@code null}을 반환합니다.
+	 */
+	private Booking lookupBooking(String bookingId) {
+		Booking b = bookings.get(bookingId);
+		if (b != null || bookingId == null) {
+			return b;
 		}
-
-		public LocalDateTime getRequestDate() {
-			return requestDateTime;
+		BookingRecord record = repository.findById(bookingId);
+		if (record == null) {
+			return null;
+		}
+		Guesthouse gh = housesById.get(record.getGuesthouseId());
+		Customer c = record.getCustomerEmail() == null ? null : customersByEmail.get(record.getCustomerEmail());
+		if (gh == null || c == null) {
+			return null;
 		}
 
-		@Override
-		// 디버깅용, 추후 대기열 리스트 출력 가능 (리팩토링 전 코드)
-//		public String toString() {
-//			return "예약 대기열 : [고객=" + customer.getName() + ", 요청일=" + requestDateTime + ", 인원="
-//					+ booking.getNumberOfPeople() + "]";
-//		}
-
-		// Optional로 null-safe 리팩토링 진행 후 코드
-		public String toString() {
-			String customerName = Optional.ofNullable(customer).map(Customer::getName).orElse("'고객정보 없음'");
-
-			String numberOfPeople = Optional.ofNullable(booking).map(Booking::getNumberOfPeople) // int
-					.map(String::valueOf) // String
-					.orElse("'인원 정보 없음'");
-
-			String rqTime = Optional.ofNullable(requestDateTime).map(String::valueOf).orElse("'시간 정보 없음'");
-
-			return "예약 대기열 : [고객=" + customerName + ", 요청일=" + rqTime + ", 인원=" + numberOfPeople + "]";
+		Booking loaded = record.toBooking(gh);
+		// 같은 예약을 동시에 불러오거나 취소하는 요청과 인원이 어긋나지 않도록 게스트하우스 락 안에서 복원
+		ReentrantLock lock = houseLocks.get(gh.getBookingId());
+		lock.lock();
+		try {
+			if (!restoreBooking(c, loaded)) {
+				return bookings.get(bookingId);
+			}
+			if (!loaded.getIsCancled()) {
+				gh.addPeople(loaded.getStartDate(), loaded.getEndDate(), loaded.getNumberOfPeople());
+			}
+			return loaded;
+		} finally {
+			lock.unlock();
 		}
 	}
 
-	// 예약 날짜, 시간을 기준으로 정렬
-	private final PriorityQueue<WaitingRequest> waitingList = new PriorityQueue<>(
-			Comparator.comparing(WaitingRequest::getRequestDate));
+	/////////// 우선순위큐 예약 대기열 구현 ///////////////
+
+	// 게스트하우스별로 나누고 숙박 기간으로 색인, 각 게스트하우스 안에서는 예약 날짜, 시간을 기준으로 정렬
+	/** 대기 요청 만료 등 시간이 지나면 처리할 작업의 타이머 (1초 틱, 1024칸) */
+	private final TimingWheel timers = new TimingWheel("booking-timer", 1, TimeUnit.SECONDS, 1024);
+	// 등록과 제거는 대기열 로그에 기록되어 재시작 후 loadBookings에서 복원됨
+	private final WaitlistJournal waitlistJournal = WaitlistJournal.createDefault();
+	private final WaitingList waitingList = new WaitingList(waitlistJournal);
+	// 취소로 자리가 생기면 게스트하우스별로 모아 전용 스레드에서 자동 예약, 대기 기한이 지난 요청도 같은 스레드에서 제거
+	private final WaitlistWorker waitlistWorker = new WaitlistWorker(this::promoteFreedCapacity,
+			this::expireWaitingRequest);
 
 	/**
 	 * 예약이 불가능한 경우, 예약 요청을 대기열에 우선순위 기반으로 등록합니다.
@@ -443,12 +956,50 @@ public class BookingServiceImpl implements BookingService {
 		// 호출할 경우 예약한 고객정보 c, 예약 정보 b, 예약한 현재 시간 requestDate를 인자로 받는다.
 		// 우선순위 큐를 구현하여 requestDate를 기준으로 c와 b의 정보를 저장한다.
 
-		WaitingRequest request = new WaitingRequest(c, b, requestDateTime);
-		waitingList.offer(request);
+		enqueueWaitingRequest(c, b, requestDateTime, null);
+	}
+
+	/**
+	 * 예약 요청을 대기열에 등록하고, 체크인 날짜가 시작되거나 고객이 정한 기한이 지나면 대기열에서 제거되도록 만료 타이머를 등록합니다.
+	 *
+	 * @param c               고객 객체
+	 * @param b               예약 정보 객체
+	 * @param requestDateTime 요청한 날짜 및 시간 (우선순위 기준)
+	 * @param deadline        대기 기한 ({@code null}이면 체크인 날짜까지)
+	 */
+	@Override
+	public void enqueueWaitingRequest(Customer c, Booking b, LocalDateTime requestDateTime, LocalDateTime deadline) {
+		// 자동 예약이나 만료보다 먼저 발행되도록 대기열에 넣는 락 안에서 발행
+		WaitingRequest request = waitingList.add(c, b, requestDateTime, deadline,
+				r -> changeStream.publish(BookingChange.Type.WAITLISTED, b, c));
+		scheduleExpiry(request);
 
 		System.out.println("예약 대기열에 등록되었습니다: " + c.getName() + ", 우선순위: ");
 	}
 
+	private void scheduleExpiry(WaitingRequest request) {
+		long delay = Duration.between(LocalDateTime.now(), request.getExpiresAt()).toMillis();
+		// 타이머 스레드는 알림만 넣고, 대기열 락과 로그 기록은 대기열 처리 스레드에서
+		request.expiry = timers.schedule(() -> waitlistWorker.expired(request), delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 만료된 대기 요청을 대기열에서 제거합니다. 대기열 처리 스레드에서 호출되며, 자동 예약 중인 요청과 겹치지 않도록 대기열 락을 잡습니다.
+	 */
+	private void expireWaitingRequest(WaitingRequest request) {
+		waitingListLock.lock();
+		try {
+			if (!waitingList.remove(request)) {
+				return; // 이미 자동 예약됨
+			}
+		} finally {
+			waitingListLock.unlock();
+		}
+		changeStream.publish(BookingChange.Type.EXPIRED, request.booking, request.customer);
+		System.out.println("대기 기한이 지나 대기열에서 제거되었습니다: " + request.customer.getName() + ", 체크인: "
+				+ request.booking.getStartDate());
+	}
+
 	/**
 	 * 예약 대기열에서 조건을 만족하는 예약 요청을 찾아 자동으로 예약을 수행합니다.
 	 * <p>
@@ -508,34 +1059,82 @@ public class BookingServiceImpl implements BookingService {
 //	}
 
 	public void processWaitingList() {
-	    if (waitingList.isEmpty()) return;
+	    List<BookingEvent> promoted = promoteWaitingList(null, null, null);
+	    if (!promoted.isEmpty()) {
+	        repository.save(promoted);
+	    }
+	}
 
-	    boolean[] hasBooked = {false};
+	/**
+	 * 취소로 자리가 생긴 게스트하우스의 기간과 겹치는 대기 요청을 자동 예약하고 저장합니다. 대기열 처리 스레드에서 호출됩니다.
+	 */
+	private void promoteFreedCapacity(Guesthouse gh, LocalDate start, LocalDate end) {
+		List<BookingEvent> promoted = promoteWaitingList(gh, start, end);
+		if (!promoted.isEmpty()) {
+			repository.save(promoted);
+		}
+	}
 
-	    waitingList.removeIf(req -> {
-	        Booking booking = req.booking;
-	        Guesthouse gh = booking.getGuesthouse();
+	/**
+	 * 대기열에서 지금 예약 가능한 요청을 요청 순서대로 예약합니다. 저널 기록은 호출하는 쪽에서 한 번에 처리합니다.
+	 * <p>
+	 * 게스트하우스를 지정하면 그 게스트하우스의 [start, end) 기간과 겹치는 요청만 확인합니다. 취소로 생긴 빈자리는 그 기간과 겹치는
+	 * 요청만 새로 예약 가능하게 만들기 때문입니다.
+	 * </p>
+	 *
+	 * @param gh    자리가 생긴 게스트하우스 ({@code null}이면 전체 대기열 확인)
+	 * @param start 자리가 생긴 기간 시작일
+	 * @param end   자리가 생긴 기간 종료일 (미포함)
+	 * @return 대기 요청이 예약된 예약 생성 이벤트 목록
+	 */
+	private List<BookingEvent> promoteWaitingList(Guesthouse gh, LocalDate start, LocalDate end) {
+	    List<BookingEvent> promoted = new ArrayList<>();
+	    if (waitingList.isEmpty()) return promoted;
+
+	    // 여러 취소가 동시에 일어나도 같은 대기 요청이 두 번 예약되지 않도록 한 번에 하나씩 처리
+	    waitingListLock.lock();
+	    try {
+	        List<WaitingRequest> candidates = gh == null ? waitingList.snapshot()
+	                : waitingList.findOverlapping(gh.getBookingId(), start, end);
+	        // 만료 타이머가 아직 처리하지 않은 만료 요청은 예약하지 않음 (타이머는 최대 한 틱 늦을 수 있음)
+	        LocalDateTime now = LocalDateTime.now();
+	        candidates.removeIf(req -> !req.getExpiresAt().isAfter(now));
+	        promoteWaitingListLocked(candidates, promoted);
+	    } finally {
+	        waitingListLock.unlock();
+	    }
+	    return promoted;
+	}
 
-	        boolean available = gh.canBook(booking.getStartDate(), booking.getEndDate(), booking.getNumberOfPeople());
+	private void promoteWaitingListLocked(List<WaitingRequest> candidates, List<BookingEvent> promoted) {
+	    // 자동 예약할 요청은 게스트하우스별로 정책에 따라 고름 (요청 순서 유지)
+	    Map<Guesthouse, List<WaitingRequest>> byHouse = new LinkedHashMap<>();
+	    for (WaitingRequest req : candidates) {
+	        byHouse.computeIfAbsent(req.booking.getGuesthouse(), gh -> new ArrayList<>()).add(req);
+	    }
+
+	    for (Map.Entry<Guesthouse, List<WaitingRequest>> entry : byHouse.entrySet()) {
+	        for (WaitingRequest req : WaitlistPromoter.select(entry.getKey(), entry.getValue(), promotionPolicy,
+	                fairnessWindow)) {
+	            Booking booking = req.booking;
 
-	        if (available) {
 	            System.out.println("========================");
 	            System.out.println("대기열 자동 예약 처리 중...");
-	            try {
-	                addBooking(req.customer, booking);
-	                hasBooked[0] = true;
-	                return true; // 예약 성공 → 큐에서 제거
-	            } catch (InsufficientBalanceException e) {
-	                e.printStackTrace(); // 실패해도 큐 유지
+	            BookingResult result = book(req.customer, booking, false, BookingChange.Type.PROMOTED);
+	            System.out.println(result.getMessage());
+	            if (result.getStatus() == BookingResult.Status.BOOKED) {
+	                waitingList.remove(req); // 예약 성공 → 대기열에서 제거
+	                if (req.expiry != null) {
+	                    req.expiry.cancel();
+	                }
+	                promoted.add(new BookingEvent(BookingEvent.Type.CREATED, booking, req.customer));
 	            }
+	            // 예약 실패 → 대기열 유지
 	        }
-	        return false; // 예약 실패 또는 수용 불가 → 대기열 유지
-	    });
+	    }
 
-	    if (!hasBooked[0]) {
+	    if (promoted.isEmpty()) {
 	        System.out.println("대기열에 예약 가능한 요청이 없습니다.");
 	    }
 	}
-
-
 }
@@ -0,0 +1,366 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+import com.gh.user.Customer;
+
+/**
+ * {@code BookingStore} 클래스는 시스템의 모든 예약을 보관하는 유일한 저장소입니다.
+ *
+ * <p>
+ * 예약 ID 기준의 기본 색인과 함께 게스트하우스별, 고객(이메일)별, 예약 상태(유효/취소)별 보조 색인과 숙박 기간 색인
+ * ({@link BookingIntervalTree})을 유지합니다. 모든 변경은
+ * 이 클래스를 거치므로 색인이 서로 어긋나지 않으며, 각 조회는 전체 예약을 훑지 않고 결과 크기에 비례하는 비용만 듭니다. 모든
+ * 색인은 등록 순서를 유지하고, 변경된 예약은 기존 자리를 그대로 대체합니다.
+ * </p>
+ *
+ * <p>
+ * 고객의 예약 목록({@link Customer#getBookings()})은 이 저장소가 관리하는 읽기 전용 뷰로 연결되므로, 고객 객체와 시스템
+ * 예약 목록이 따로 관리되며 어긋나는 일이 없습니다.
+ * </p>
+ *
+ * <p>
+ * 조회는 읽기 락, 변경은 쓰기 락으로 보호되어 여러 스레드에서 안전하게 호출할 수 있습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class BookingStore {
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** 예약 ID → 예약 */
+	private final Map<String, Booking> byId = new LinkedHashMap<>();
+	/** 게스트하우스 ID → (예약 ID → 예약) */
+	private final Map<String, Map<String, Booking>> byGuesthouse = new HashMap<>();
+	/** 고객 이메일 → 고객 예약 목록 (고객 객체에 읽기 전용 뷰로 연결됨) */
+	private final Map<String, CustomerBookings> byCustomer = new HashMap<>();
+	/** 유효한 예약 (예약 ID → 예약) */
+	private final Map<String, Booking> active = new LinkedHashMap<>();
+	/** 취소된 예약 (예약 ID → 예약) */
+	private final Map<String, Booking> cancelled = new LinkedHashMap<>();
+	/** 숙박 기간 색인 ([0] 유효한 예약, [1] 취소된 예약) */
+	private final BookingIntervalTree[] stays = newStayIndex();
+	/** 게스트하우스 ID → 숙박 기간 색인 ([0] 유효한 예약, [1] 취소된 예약) */
+	private final Map<String, BookingIntervalTree[]> staysByGuesthouse = new HashMap<>();
+
+	/**
+	 * 예약을 추가합니다. 같은 예약 ID가 이미 있으면 기존 예약을 대체하고 모든 색인을 새 정보로 갱신합니다.
+	 *
+	 * @param c 예약한 고객
+	 * @param b 예약 (예약 ID 필수)
+	 */
+	public void put(Customer c, Booking b) {
+		b.setCustomer(c);
+		lock.writeLock().lock();
+		try {
+			Booking old = byId.put(b.getBookingId(), b);
+			if (old != null) {
+				unindex(old, c);
+			}
+			index(b, old);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 예약 ID가 아직 없을 때만 예약을 추가합니다.
+	 *
+	 * @param c 예약한 고객
+	 * @param b 예약 (예약 ID 필수)
+	 * @return 추가했으면 {@code true}, 같은 예약 ID가 이미 있으면 {@code false}
+	 */
+	public boolean putIfAbsent(Customer c, Booking b) {
+		lock.writeLock().lock();
+		try {
+			if (byId.containsKey(b.getBookingId())) {
+				return false;
+			}
+			b.setCustomer(c);
+			byId.put(b.getBookingId(), b);
+			index(b, null);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 예약 ID가 아직 없는 예약만 한 번에 추가합니다. 쓰기 락을 한 번만 잡고 고객 예약 목록도 한 번에 늘리므로, 파일에서 많은
+	 * 예약을 불러올 때 {@link #putIfAbsent(Customer, Booking)}를 반복하는 것보다 훨씬 빠릅니다.
+	 *
+	 * @param c      예약한 고객
+	 * @param loaded 추가할 예약 목록 (예약 ID 필수)
+	 * @return 실제로 추가된 예약 목록 (주어진 순서)
+	 */
+	public List<Booking> putAllIfAbsent(Customer c, Collection<Booking> loaded) {
+		List<Booking> added = new ArrayList<>(loaded.size());
+		lock.writeLock().lock();
+		try {
+			for (Booking b : loaded) {
+				if (byId.putIfAbsent(b.getBookingId(), b) != null) {
+					continue;
+				}
+				b.setCustomer(c);
+				indexExceptCustomer(b);
+				added.add(b);
+			}
+			// 쓰기 시 복사하는 목록이므로 한 번에 추가
+			customerBookingsOf(c).list.addAll(added);
+			return added;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 예약을 취소 상태로 표시하고 상태 색인을 옮깁니다.
+	 *
+	 * @param b 취소할 예약
+	 */
+	public void markCancelled(Booking b) {
+		lock.writeLock().lock();
+		try {
+			b.setIsCancled(true);
+			if (active.remove(b.getBookingId()) != null) {
+				cancelled.put(b.getBookingId(), b);
+				for (BookingIntervalTree[] index : stayIndexesOf(b)) {
+					index[0].remove(b.getBookingId());
+					index[1].add(b);
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @param bookingId 예약 ID
+	 * @return 해당 예약, 없으면 {@code null}
+	 */
+	public Booking get(String bookingId) {
+		if (bookingId == null) {
+			return null;
+		}
+		lock.readLock().lock();
+		try {
+			return byId.get(bookingId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 전체 예약 목록의 복사본 (등록 순서)
+	 */
+	public List<Booking> findAll() {
+		return snapshot(byId.values());
+	}
+
+	/**
+	 * @param gh 게스트하우스
+	 * @return 해당 게스트하우스의 예약 목록 복사본
+	 */
+	public List<Booking> findByGuesthouse(Guesthouse gh) {
+		lock.readLock().lock();
+		try {
+			Map<String, Booking> found = byGuesthouse.get(gh.getBookingId());
+			return found == null ? new ArrayList<>() : new ArrayList<>(found.values());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param c 고객
+	 * @return 해당 고객의 예약 목록 복사본
+	 */
+	public List<Booking> findByCustomer(Customer c) {
+		lock.readLock().lock();
+		try {
+			CustomerBookings found = byCustomer.get(c.getEmail());
+			return found == null ? new ArrayList<>() : new ArrayList<>(found.list);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param c 고객
+	 * @return 해당 고객의 취소되지 않은 예약 목록 복사본
+	 */
+	public List<Booking> findActiveByCustomer(Customer c) {
+		List<Booking> found = findByCustomer(c);
+		found.removeIf(Booking::getIsCancled);
+		return found;
+	}
+
+	/**
+	 * @param isCancelled 취소된 예약을 조회하려면 {@code true}
+	 * @return 해당 상태의 예약 목록 복사본
+	 */
+	public List<Booking> findByStatus(boolean isCancelled) {
+		return snapshot(isCancelled ? cancelled.values() : active.values());
+	}
+
+	/**
+	 * [start, end) 기간에 하루라도 숙박하는 예약을 체크인 순서로 조회합니다. 체크아웃 날짜는 숙박일에 포함되지 않습니다.
+	 *
+	 * @param start            조회 시작일
+	 * @param end              조회 종료일 (미포함)
+	 * @param gh               조회할 게스트하우스, 전체 숙소를 조회하려면 {@code null}
+	 * @param includeCancelled 취소된 예약도 포함하려면 {@code true}
+	 * @return 기간과 겹치는 예약 목록
+	 */
+	public List<Booking> findOverlapping(LocalDate start, LocalDate end, Guesthouse gh, boolean includeCancelled) {
+		long startDay = start.toEpochDay();
+		long endDay = end.toEpochDay();
+		List<Booking> found = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			BookingIntervalTree[] index = gh == null ? stays : staysByGuesthouse.get(gh.getBookingId());
+			if (index == null) {
+				return found;
+			}
+			index[0].findOverlapping(startDay, endDay, found);
+			if (includeCancelled) {
+				index[1].findOverlapping(startDay, endDay, found);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (includeCancelled) {
+			found.sort(Comparator.comparing(Booking::getStartDate));
+		}
+		return found;
+	}
+
+	/**
+	 * @return 전체 예약 수
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return byId.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<Booking> snapshot(Collection<Booking> values) {
+		lock.readLock().lock();
+		try {
+			return new ArrayList<>(values);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 예약을 보조 색인에 추가합니다. 같은 고객의 예약을 대체하는 경우 고객 목록에서 기존 자리를 유지합니다.
+	 */
+	private void index(Booking b, Booking old) {
+		indexExceptCustomer(b);
+
+		Customer c = b.getCustomer();
+		if (c == null) {
+			return;
+		}
+		CustomerBookings owned = customerBookingsOf(c);
+		int pos = old == null ? -1 : owned.list.indexOf(old);
+		if (pos >= 0) {
+			owned.list.set(pos, b);
+		} else {
+			owned.list.add(b);
+		}
+	}
+
+	/**
+	 * 예약을 게스트하우스, 상태, 숙박 기간 색인에 추가합니다.
+	 */
+	private void indexExceptCustomer(Booking b) {
+		String id = b.getBookingId();
+		if (b.getGuesthouse() != null) {
+			byGuesthouse.computeIfAbsent(b.getGuesthouse().getBookingId(), k -> new LinkedHashMap<>()).put(id, b);
+		}
+		(b.getIsCancled() ? cancelled : active).put(id, b);
+		for (BookingIntervalTree[] index : stayIndexesOf(b)) {
+			index[b.getIsCancled() ? 1 : 0].add(b);
+		}
+	}
+
+	/**
+	 * 고객의 예약 목록을 찾거나 만들고, 고객 객체의 예약 목록을 이 저장소의 뷰로 연결합니다.
+	 */
+	private CustomerBookings customerBookingsOf(Customer c) {
+		CustomerBookings owned = byCustomer.computeIfAbsent(c.getEmail(), k -> new CustomerBookings());
+		if (c.getBookings() != owned.view) {
+			c.setBookings(owned.view);
+		}
+		return owned;
+	}
+
+	/**
+	 * 기존 예약을 게스트하우스, 상태 색인에서 제거합니다. 고객 목록은 예약한 고객이 바뀐 경우에만 제거하고, 같은 고객이면
+	 * {@link #index(Booking, Booking)}에서 제자리 대체합니다.
+	 */
+	private void unindex(Booking old, Customer next) {
+		String id = old.getBookingId();
+		if (old.getGuesthouse() != null) {
+			Map<String, Booking> found = byGuesthouse.get(old.getGuesthouse().getBookingId());
+			if (found != null) {
+				found.remove(id);
+			}
+		}
+		active.remove(id);
+		cancelled.remove(id);
+		for (BookingIntervalTree[] index : stayIndexesOf(old)) {
+			index[0].remove(id);
+			index[1].remove(id);
+		}
+
+		Customer prev = old.getCustomer();
+		if (prev != null && (next == null || !prev.getEmail().equals(next.getEmail()))) {
+			CustomerBookings owned = byCustomer.get(prev.getEmail());
+			if (owned != null) {
+				owned.list.remove(old);
+			}
+		}
+	}
+
+	/**
+	 * 예약이 들어가는 전체 숙박 기간 색인과 게스트하우스별 숙박 기간 색인을 반환합니다.
+	 */
+	private List<BookingIntervalTree[]> stayIndexesOf(Booking b) {
+		if (b.getGuesthouse() == null) {
+			return Collections.singletonList(stays);
+		}
+		return Arrays.asList(stays,
+				staysByGuesthouse.computeIfAbsent(b.getGuesthouse().getBookingId(), k -> newStayIndex()));
+	}
+
+	private static BookingIntervalTree[] newStayIndex() {
+		return new BookingIntervalTree[] { new BookingIntervalTree(), new BookingIntervalTree() };
+	}
+
+	/**
+	 * 고객 한 명의 예약 목록과 그 읽기 전용 뷰입니다. 목록은 쓰기 락 안에서만 변경되고, 뷰는 락 없이 읽어도 안전합니다.
+	 */
+	private static final class CustomerBookings {
+		private final List<Booking> list = new CopyOnWriteArrayList<>();
+		private final List<Booking> view = Collections.unmodifiableList(list);
+	}
+}
@@ -0,0 +1,249 @@
+package com.gh.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * {@code BookingWriteBehind} 클래스는 예약 변경 이벤트를 큐에 받아 전용 스레드에서 모아 기록하는 지연 기록(write-behind)
+ * 단계입니다.
+ *
+ * <p>
+ * 기록 스레드는 첫 이벤트가 들어온 뒤 기록 간격만큼 기다리며 그동안 들어온 이벤트를 모읍니다. 모인 이벤트 중 같은 예약의 이벤트는
+ * 마지막 하나만 남기고(저널은 예약 ID별 마지막 상태로 복원되므로 결과가 같음) 한 번에 기록합니다. 따라서 짧은 시간에 몰린 변경은
+ * 파일을 한 번만 열어 기록됩니다.
+ * </p>
+ *
+ * <p>
+ * {@link #submitAndWait(List)}는 기록 간격을 기다리지 않고 자신의 이벤트가 기록될 때까지 기다리며, 앞선 기록이 진행되는 동안
+ * 들어온 요청은 다음 기록에 함께 묶입니다. {@link #flush()}는 호출 전에 넘겨진 이벤트가 모두 기록될 때까지 기다립니다. 정상
+ * 종료 시에도 남은 이벤트가 사라지지 않도록 {@link BookingFileManager}가 종료 훅에서 호출합니다.
+ * </p>
+ *
+ * <p>
+ * 기록에 실패한 묶음은 기록된 것으로 치지 않습니다. 그 묶음을 기다리던 호출에는 기록하는 쪽이 던진 예외가 그대로 전달되고, 기다리는
+ * 쪽이 없던 실패는 다음 {@link #flush()}에서 알립니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class BookingWriteBehind {
+	private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+	/** 모인 이벤트를 실제로 기록하는 쪽 (실패하면 예외를 던짐) */
+	private final Consumer<List<BookingEvent>> sink;
+	/** flush 요청을 보호하는 락 */
+	private final Object progress = new Object();
+	private boolean flushRequested;
+	private volatile long flushIntervalMillis;
+	/** 기다리는 쪽이 없던 기록의 실패 중 아직 알리지 않은 첫 실패 ({@link #flush()}에서 알림) */
+	private final AtomicReference<RuntimeException> unreported = new AtomicReference<>();
+
+	/**
+	 * 기록 스레드(데몬)를 시작합니다.
+	 *
+	 * @param sink                모인 이벤트를 기록할 함수
+	 * @param flushIntervalMillis 이벤트를 모으는 시간 (밀리초)
+	 */
+	BookingWriteBehind(Consumer<List<BookingEvent>> sink, long flushIntervalMillis) {
+		this(sink, flushIntervalMillis, "booking-journal-writer");
+	}
+
+	/**
+	 * 기록 스레드(데몬)를 시작합니다.
+	 *
+	 * @param sink                모인 이벤트를 기록할 함수
+	 * @param flushIntervalMillis 이벤트를 모으는 시간 (밀리초)
+	 * @param threadName          기록 스레드 이름
+	 */
+	BookingWriteBehind(Consumer<List<BookingEvent>> sink, long flushIntervalMillis, String threadName) {
+		this.sink = sink;
+		setFlushInterval(flushIntervalMillis);
+		Thread writer = new Thread(this::run, threadName);
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * 이벤트 기록을 요청하고 바로 반환합니다. 기록에 실패하면 다음 {@link #flush()}에서 알립니다.
+	 *
+	 * @param events 기록할 예약 이벤트 목록
+	 */
+	void submit(List<BookingEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		queue.add(new Request(events, null));
+	}
+
+	/**
+	 * 이벤트 기록을 요청하고, 기록 간격을 기다리지 않고 바로 기록하게 한 뒤 기록될 때까지 기다립니다. 기록 스레드가 앞선 이벤트를
+	 * 기록하는 동안 여러 스레드가 요청한 이벤트는 다음 한 번의 기록에 함께 담깁니다(그룹 커밋).
+	 *
+	 * @param events 기록할 예약 이벤트 목록
+	 * @throws RuntimeException 이벤트가 담긴 기록이 실패한 경우 (기록하는 쪽이 던진 예외)
+	 */
+	void submitAndWait(List<BookingEvent> events) {
+		Request request = new Request(events, new CompletableFuture<>());
+		queue.add(request);
+		requestFlush();
+		await(request.done);
+	}
+
+	/**
+	 * 지금까지 넘겨받은 이벤트가 모두 기록될 때까지 기다립니다. 기록 간격을 기다리는 중이면 바로 기록하게 합니다.
+	 *
+	 * @throws RuntimeException 기다린 기록, 또는 지난 flush 이후 기다리는 쪽 없이 진행된 기록이 실패한 경우
+	 */
+	void flush() {
+		// 큐는 순서대로 처리되므로 빈 요청이 끝나면 앞서 넘겨받은 이벤트도 모두 처리된 것
+		submitAndWait(Collections.emptyList());
+		RuntimeException failure = unreported.getAndSet(null);
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * @param millis 이벤트를 모으는 시간 (밀리초, 0이면 모으지 않고 바로 기록)
+	 * @throws IllegalArgumentException 음수인 경우
+	 */
+	void setFlushInterval(long millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("기록 간격은 0 이상이어야 합니다: " + millis);
+		}
+		flushIntervalMillis = millis;
+	}
+
+	private void requestFlush() {
+		synchronized (progress) {
+			// 이미 요청되어 있으면 다시 깨우지 않음 (기다리는 스레드끼리 서로 깨우며 기록 스레드를 막지 않도록)
+			if (!flushRequested) {
+				flushRequested = true;
+				progress.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * 기록이 끝날 때까지 기다리고, 실패했으면 기록하는 쪽이 던진 예외를 다시 던집니다.
+	 */
+	private static void await(CompletableFuture<Void> done) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					done.get();
+					return;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					throw new IllegalStateException(cause);
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void run() {
+		while (true) {
+			List<Request> batch = new ArrayList<>();
+			try {
+				batch.add(queue.take());
+			} catch (InterruptedException e) {
+				// 데몬 스레드이므로 중단 요청은 무시하고 계속 기록
+				continue;
+			}
+			awaitInterval();
+			queue.drainTo(batch);
+
+			List<BookingEvent> events = new ArrayList<>();
+			boolean waited = false;
+			for (Request request : batch) {
+				events.addAll(request.events);
+				waited |= request.done != null;
+			}
+
+			RuntimeException failure = null;
+			if (!events.isEmpty()) {
+				try {
+					sink.accept(coalesce(events));
+				} catch (RuntimeException e) {
+					System.out.println("예약 저널 기록 중 오류 발생: " + e.getMessage());
+					failure = e;
+				}
+			}
+			if (failure != null && !waited) {
+				unreported.compareAndSet(null, failure);
+			}
+			// 실패한 기록은 기록된 것으로 알리지 않고, 기다리는 쪽에 같은 예외를 전달
+			for (Request request : batch) {
+				if (request.done == null) {
+					continue;
+				}
+				if (failure == null) {
+					request.done.complete(null);
+				} else {
+					request.done.completeExceptionally(failure);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 기록 간격이 지나거나 flush가 요청될 때까지 기다립니다.
+	 */
+	private void awaitInterval() {
+		long deadline = System.currentTimeMillis() + flushIntervalMillis;
+		synchronized (progress) {
+			long remaining;
+			while (!flushRequested && (remaining = deadline - System.currentTimeMillis()) > 0) {
+				try {
+					progress.wait(remaining);
+				} catch (InterruptedException e) {
+					// 데몬 스레드이므로 중단 요청은 무시하고 남은 간격만큼 계속 기다림
+				}
+			}
+			flushRequested = false;
+		}
+	}
+
+	/**
+	 * 같은 예약의 이벤트는 마지막 것만 남깁니다. 예약의 순서는 처음 나온 위치를 따릅니다.
+	 */
+	private static List<BookingEvent> coalesce(List<BookingEvent> batch) {
+		Map<String, BookingEvent> latest = new LinkedHashMap<>();
+		for (BookingEvent e : batch) {
+			latest.put(e.getBooking().getBookingId(), e);
+		}
+		return new ArrayList<>(latest.values());
+	}
+
+	/**
+	 * 기록 요청 하나입니다.
+	 */
+	private static final class Request {
+		final List<BookingEvent> events;
+		/** 기록이 끝나면 완료됨 (기다리는 쪽이 없으면 {@code null}) */
+		final CompletableFuture<Void> done;
+
+		Request(List<BookingEvent> events, CompletableFuture<Void> done) {
+			this.events = events;
+			this.done = done;
+		}
+	}
+}
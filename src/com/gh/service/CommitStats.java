@@ -0,0 +1,105 @@
+package com.gh.service;
+
+/**
+ * {@code CommitStats} 클래스는 예약 저널에 한 번에 기록한 이벤트 수(그룹 크기)와 디스크 반영(fsync) 시간을 모읍니다.
+ * {@link BookingFileManager#getCommitStats()}로 조회하며, 모든 메서드는 여러 스레드에서 호출할 수 있습니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class CommitStats {
+	private long groups;
+	private long events;
+	private int maxGroupSize;
+	private long forcedGroups;
+	private long forces;
+	private long forceNanos;
+	private long maxForceNanos;
+
+	/**
+	 * 한 그룹의 기록 결과를 더합니다.
+	 *
+	 * @param groupSize  그룹에 담긴 이벤트 수
+	 * @param forceCount 디스크에 반영한 파일 수 (반영하지 않았으면 0)
+	 * @param nanos      디스크 반영에 걸린 시간 합계 (나노초)
+	 */
+	synchronized void record(int groupSize, int forceCount, long nanos) {
+		groups++;
+		events += groupSize;
+		maxGroupSize = Math.max(maxGroupSize, groupSize);
+		if (forceCount > 0) {
+			forcedGroups++;
+			forces += forceCount;
+			forceNanos += nanos;
+			maxForceNanos = Math.max(maxForceNanos, nanos);
+		}
+	}
+
+	/**
+	 * 모은 값을 모두 0으로 되돌립니다.
+	 */
+	public synchronized void reset() {
+		groups = 0;
+		events = 0;
+		maxGroupSize = 0;
+		forcedGroups = 0;
+		forces = 0;
+		forceNanos = 0;
+		maxForceNanos = 0;
+	}
+
+	/**
+	 * @return 기록한 그룹 수
+	 */
+	public synchronized long getGroups() {
+		return groups;
+	}
+
+	/**
+	 * @return 기록한 이벤트 수
+	 */
+	public synchronized long getEvents() {
+		return events;
+	}
+
+	/**
+	 * @return 그룹당 평균 이벤트 수
+	 */
+	public synchronized double getAverageGroupSize() {
+		return groups == 0 ? 0 : (double) events / groups;
+	}
+
+	/**
+	 * @return 가장 큰 그룹의 이벤트 수
+	 */
+	public synchronized int getMaxGroupSize() {
+		return maxGroupSize;
+	}
+
+	/**
+	 * @return 디스크에 반영한 횟수 (파일 단위)
+	 */
+	public synchronized long getForces() {
+		return forces;
+	}
+
+	/**
+	 * @return 디스크에 반영한 그룹의 평균 반영 시간 (밀리초)
+	 */
+	public synchronized double getAverageForceMillis() {
+		return forcedGroups == 0 ? 0 : forceNanos / 1_000_000.0 / forcedGroups;
+	}
+
+	/**
+	 * @return 한 그룹의 가장 긴 반영 시간 (밀리초)
+	 */
+	public synchronized double getMaxForceMillis() {
+		return maxForceNanos / 1_000_000.0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("CommitStats [groups=%d, events=%d, avgGroupSize=%.1f, maxGroupSize=%d, forces=%d, "
+				+ "avgForceMs=%.2f, maxForceMs=%.2f]", groups, events, getAverageGroupSize(), maxGroupSize, forces,
+				getAverageForceMillis(), getMaxForceMillis());
+	}
+}
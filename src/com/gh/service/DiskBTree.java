@@ -0,0 +1,529 @@
+package com.gh.service;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * {@code DiskBTree} 클래스는 하나의 파일에 여러 개의 B+트리를 담는 내장형 디스크 색인입니다. 키와 값은 바이트 배열이며, 키는
+ * 부호 없는 바이트 사전 순으로 정렬됩니다.
+ *
+ * <p>
+ * 파일은 4 KiB 페이지로 나뉘며, 0번 페이지(헤더)에 트리별 루트 페이지와 항목 수를 기록합니다. 리프 페이지는 키와 값을, 내부 페이지는
+ * 키와 자식 페이지 번호를 담고, 리프끼리는 다음 리프 번호로 연결되어 범위 조회 시 트리를 다시 내려가지 않습니다. 페이지가 넘치면 바이트
+ * 크기의 절반에서 나눕니다. 삭제는 리프에서 항목만 지우고 페이지를 합치거나 재사용하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 읽은 페이지는 최근 사용 순서의 캐시에 두고, 변경된 페이지는 캐시에서 밀려날 때나 {@link #flush()} 때 파일에 씁니다. 따라서
+ * 디스크에는 마지막 {@link #flush()} 이후의 변경이 일부만 반영되어 있을 수 있습니다. 모든 메서드는 한 번에 하나의 스레드만
+ * 실행합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class DiskBTree implements AutoCloseable {
+	/** 페이지 크기 (바이트) */
+	static final int PAGE_SIZE = 4096;
+	/** 키와 값을 합한 항목 하나의 최대 크기 (바이트) */
+	static final int MAX_ENTRY_SIZE = PAGE_SIZE / 4;
+
+	private static final int MAGIC = 0x47484254; // "GHBT"
+	private static final int NO_PAGE = 0;
+	/** 리프: [종류 1][항목 수 2][다음 리프 4], 내부: [종류 1][키 수 2][첫 자식 4] */
+	private static final int NODE_HEADER = 7;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final int[] roots;
+	private final long[] sizes;
+	private int pageCount;
+	private boolean headerDirty;
+	private final LinkedHashMap<Integer, Node> cache;
+
+	/**
+	 * 파일을 열거나 새로 만듭니다.
+	 *
+	 * @param path       색인 파일
+	 * @param trees      파일에 담을 트리 수
+	 * @param cachePages 메모리에 둘 페이지 수 (최소 16)
+	 * @throws IOException 파일을 열 수 없거나 색인 파일 형식이 아닌 경우
+	 */
+	DiskBTree(Path path, int trees, int cachePages) throws IOException {
+		if (trees < 1 || 4 + 4 + 4 + trees * 12 > PAGE_SIZE) {
+			throw new IllegalArgumentException("트리 수가 올바르지 않습니다: " + trees);
+		}
+		this.file = new RandomAccessFile(path.toFile(), "rw");
+		this.channel = file.getChannel();
+		this.roots = new int[trees];
+		this.sizes = new long[trees];
+		int capacity = Math.max(16, cachePages);
+		this.cache = new LinkedHashMap<Integer, Node>(capacity * 4 / 3 + 1, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Node> eldest) {
+				if (size() <= capacity) {
+					return false;
+				}
+				if (eldest.getValue().dirty) {
+					try {
+						writeNode(eldest.getValue());
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				return true;
+			}
+		};
+
+		try {
+			if (channel.size() == 0) {
+				pageCount = 1;
+				writeHeader();
+			} else {
+				readHeader();
+			}
+		} catch (IOException | RuntimeException e) {
+			file.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @param tree 트리 번호
+	 * @param key  키
+	 * @return 키에 해당하는 값, 없으면 {@code null}
+	 * @throws IOException 파일을 읽을 수 없는 경우
+	 */
+	synchronized byte[] get(int tree, byte[] key) throws IOException {
+		if (roots[tree] == NO_PAGE) {
+			return null;
+		}
+		Node leaf = findLeaf(roots[tree], key);
+		int i = search(leaf.keys, key);
+		return i >= 0 ? leaf.values.get(i) : null;
+	}
+
+	/**
+	 * 키에 값을 저장합니다. 같은 키가 있으면 값을 바꿉니다.
+	 *
+	 * @param tree  트리 번호
+	 * @param key   키
+	 * @param value 값
+	 * @throws IOException              파일을 읽거나 쓸 수 없는 경우
+	 * @throws IllegalArgumentException 키와 값의 크기가 {@link #MAX_ENTRY_SIZE}를 넘는 경우
+	 */
+	synchronized void put(int tree, byte[] key, byte[] value) throws IOException {
+		if (4 + key.length + value.length > MAX_ENTRY_SIZE) {
+			throw new IllegalArgumentException("색인 항목이 너무 큽니다: " + (key.length + value.length) + "바이트");
+		}
+		if (roots[tree] == NO_PAGE) {
+			Node leaf = allocate(true);
+			leaf.keys.add(key);
+			leaf.values.add(value);
+			roots[tree] = leaf.page;
+			sizes[tree] = 1;
+			headerDirty = true;
+			return;
+		}
+
+		Split split = insert(getNode(roots[tree]), key, value, tree);
+		if (split != null) {
+			// 루트가 나뉘면 두 페이지를 자식으로 갖는 새 루트를 만듦
+			Node root = allocate(false);
+			root.children.add(roots[tree]);
+			root.keys.add(split.separator);
+			root.children.add(split.right);
+			roots[tree] = root.page;
+			headerDirty = true;
+		}
+	}
+
+	/**
+	 * 키를 삭제합니다.
+	 *
+	 * @param tree 트리 번호
+	 * @param key  키
+	 * @return 삭제했으면 {@code true}, 키가 없으면 {@code false}
+	 * @throws IOException 파일을 읽거나 쓸 수 없는 경우
+	 */
+	synchronized boolean remove(int tree, byte[] key) throws IOException {
+		if (roots[tree] == NO_PAGE) {
+			return false;
+		}
+		Node leaf = findLeaf(roots[tree], key);
+		int i = search(leaf.keys, key);
+		if (i < 0) {
+			return false;
+		}
+		leaf.keys.remove(i);
+		leaf.values.remove(i);
+		markDirty(leaf);
+		sizes[tree]--;
+		headerDirty = true;
+		return true;
+	}
+
+	/**
+	 * 키가 [from, to)인 항목을 키 순서로 전달합니다.
+	 *
+	 * @param tree     트리 번호
+	 * @param from     첫 키 ({@code null}이면 처음부터)
+	 * @param to       끝 키, 포함하지 않음 ({@code null}이면 끝까지)
+	 * @param consumer 키와 값을 받을 함수
+	 * @throws IOException 파일을 읽을 수 없는 경우
+	 */
+	synchronized void scan(int tree, byte[] from, byte[] to, BiConsumer<byte[], byte[]> consumer) throws IOException {
+		if (roots[tree] == NO_PAGE) {
+			return;
+		}
+		Node leaf = findLeaf(roots[tree], from);
+		int i = from == null ? 0 : lowerBound(leaf.keys, from);
+		while (true) {
+			for (; i < leaf.keys.size(); i++) {
+				byte[] key = leaf.keys.get(i);
+				if (to != null && Arrays.compareUnsigned(key, to) >= 0) {
+					return;
+				}
+				consumer.accept(key, leaf.values.get(i));
+			}
+			if (leaf.next == NO_PAGE) {
+				return;
+			}
+			leaf = getNode(leaf.next);
+			i = 0;
+		}
+	}
+
+	/**
+	 * @param tree 트리 번호
+	 * @return 트리의 항목 수
+	 */
+	synchronized long size(int tree) {
+		return sizes[tree];
+	}
+
+	/**
+	 * 변경된 페이지와 헤더를 파일에 쓰고 디스크에 반영합니다.
+	 *
+	 * @throws IOException 파일에 쓸 수 없는 경우
+	 */
+	synchronized void flush() throws IOException {
+		for (Node node : cache.values()) {
+			if (node.dirty) {
+				writeNode(node);
+			}
+		}
+		if (headerDirty) {
+			writeHeader();
+		}
+		channel.force(true);
+	}
+
+	/**
+	 * 변경 사항을 기록하고 파일을 닫습니다.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!channel.isOpen()) {
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * 노드에 항목을 넣고, 노드가 넘쳐 나뉘었으면 부모에 추가할 구분 키와 오른쪽 페이지를 반환합니다.
+	 */
+	private Split insert(Node node, byte[] key, byte[] value, int tree) throws IOException {
+		if (node.leaf) {
+			int i = search(node.keys, key);
+			if (i >= 0) {
+				node.values.set(i, value);
+			} else {
+				node.keys.add(-i - 1, key);
+				node.values.add(-i - 1, value);
+				sizes[tree]++;
+				headerDirty = true;
+			}
+			markDirty(node);
+			return node.encodedSize() > PAGE_SIZE ? splitLeaf(node) : null;
+		}
+
+		int c = childIndex(node.keys, key);
+		Split split = insert(getNode(node.children.get(c)), key, value, tree);
+		if (split == null) {
+			return null;
+		}
+		node.keys.add(c, split.separator);
+		node.children.add(c + 1, split.right);
+		markDirty(node);
+		return node.encodedSize() > PAGE_SIZE ? splitInternal(node) : null;
+	}
+
+	private Split splitLeaf(Node left) throws IOException {
+		int mid = splitPoint(left);
+		Node right = allocate(true);
+		moveTail(left.keys, right.keys, mid);
+		moveTail(left.values, right.values, mid);
+		right.next = left.next;
+		left.next = right.page;
+		markDirty(right);
+		markDirty(left);
+		return new Split(right.keys.get(0), right.page);
+	}
+
+	private Split splitInternal(Node left) throws IOException {
+		// 구분 키는 부모로 올라가므로 양쪽에 키가 하나 이상 남도록 함
+		int mid = Math.min(splitPoint(left), left.keys.size() - 2);
+		Node right = allocate(false);
+		byte[] separator = left.keys.get(mid);
+		moveTail(left.keys, right.keys, mid + 1);
+		moveTail(left.children, right.children, mid + 1);
+		left.keys.remove(mid);
+		markDirty(right);
+		markDirty(left);
+		return new Split(separator, right.page);
+	}
+
+	/**
+	 * 앞쪽 항목의 바이트 크기가 전체의 절반을 넘는 첫 위치를 찾습니다 (양쪽에 항목이 하나 이상 남도록).
+	 */
+	private static int splitPoint(Node node) {
+		int half = node.encodedSize() / 2;
+		int used = NODE_HEADER;
+		for (int i = 0; i < node.keys.size(); i++) {
+			used += node.entrySize(i);
+			if (used > half) {
+				return Math.max(1, Math.min(i, node.keys.size() - 1));
+			}
+		}
+		return node.keys.size() - 1;
+	}
+
+	private static <T> void moveTail(List<T> from, List<T> to, int index) {
+		List<T> tail = from.subList(index, from.size());
+		to.addAll(tail);
+		tail.clear();
+	}
+
+	/**
+	 * 키가 있어야 할 리프를 찾습니다. 키가 {@code null}이면 가장 왼쪽 리프를 반환합니다.
+	 */
+	private Node findLeaf(int page, byte[] key) throws IOException {
+		Node node = getNode(page);
+		while (!node.leaf) {
+			node = getNode(node.children.get(key == null ? 0 : childIndex(node.keys, key)));
+		}
+		return node;
+	}
+
+	/**
+	 * 구분 키가 키보다 작거나 같은 마지막 자식의 위치를 반환합니다.
+	 */
+	private static int childIndex(List<byte[]> keys, byte[] key) {
+		int i = search(keys, key);
+		return i >= 0 ? i + 1 : -i - 1;
+	}
+
+	private static int lowerBound(List<byte[]> keys, byte[] key) {
+		int i = search(keys, key);
+		return i >= 0 ? i : -i - 1;
+	}
+
+	/**
+	 * @return 키의 위치, 없으면 (-(삽입 위치) - 1)
+	 */
+	private static int search(List<byte[]> keys, byte[] key) {
+		int lo = 0;
+		int hi = keys.size() - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = Arrays.compareUnsigned(keys.get(mid), key);
+			if (cmp < 0) {
+				lo = mid + 1;
+			} else if (cmp > 0) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(lo + 1);
+	}
+
+	private Node allocate(boolean leaf) {
+		Node node = new Node(pageCount++, leaf);
+		headerDirty = true;
+		markDirty(node);
+		return node;
+	}
+
+	/**
+	 * 변경된 노드를 캐시에 다시 넣어, 이미 밀려났더라도 나중에 파일에 쓰이도록 합니다.
+	 */
+	private void markDirty(Node node) {
+		node.dirty = true;
+		cache.put(node.page, node);
+	}
+
+	private Node getNode(int page) throws IOException {
+		Node node = cache.get(page);
+		if (node == null) {
+			node = readNode(page);
+			cache.put(page, node);
+		}
+		return node;
+	}
+
+	private Node readNode(int page) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(PAGE_SIZE);
+		readFully(buf, (long) page * PAGE_SIZE);
+		buf.flip();
+		Node node = new Node(page, buf.get() == 1);
+		int count = buf.getShort() & 0xFFFF;
+		if (node.leaf) {
+			node.next = buf.getInt();
+			for (int i = 0; i < count; i++) {
+				node.keys.add(readBytes(buf));
+				node.values.add(readBytes(buf));
+			}
+		} else {
+			node.children.add(buf.getInt());
+			for (int i = 0; i < count; i++) {
+				node.keys.add(readBytes(buf));
+				node.children.add(buf.getInt());
+			}
+		}
+		return node;
+	}
+
+	private void writeNode(Node node) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(PAGE_SIZE);
+		buf.put((byte) (node.leaf ? 1 : 0));
+		buf.putShort((short) node.keys.size());
+		if (node.leaf) {
+			buf.putInt(node.next);
+			for (int i = 0; i < node.keys.size(); i++) {
+				writeBytes(buf, node.keys.get(i));
+				writeBytes(buf, node.values.get(i));
+			}
+		} else {
+			buf.putInt(node.children.get(0));
+			for (int i = 0; i < node.keys.size(); i++) {
+				writeBytes(buf, node.keys.get(i));
+				buf.putInt(node.children.get(i + 1));
+			}
+		}
+		buf.rewind();
+		writeFully(buf, (long) node.page * PAGE_SIZE);
+		node.dirty = false;
+	}
+
+	private void readHeader() throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(PAGE_SIZE);
+		readFully(buf, 0);
+		buf.flip();
+		if (buf.getInt() != MAGIC) {
+			throw new IOException("예약 색인 파일 형식이 아닙니다.");
+		}
+		pageCount = buf.getInt();
+		int trees = buf.getInt();
+		if (trees != roots.length) {
+			throw new IOException("색인 파일의 트리 수가 다릅니다: " + trees);
+		}
+		for (int i = 0; i < trees; i++) {
+			roots[i] = buf.getInt();
+			sizes[i] = buf.getLong();
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(PAGE_SIZE);
+		buf.putInt(MAGIC).putInt(pageCount).putInt(roots.length);
+		for (int i = 0; i < roots.length; i++) {
+			buf.putInt(roots[i]).putLong(sizes[i]);
+		}
+		buf.rewind();
+		writeFully(buf, 0);
+		headerDirty = false;
+	}
+
+	private void readFully(ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			if (channel.read(buf, position + buf.position()) < 0) {
+				throw new IOException("색인 파일이 잘렸습니다: " + (position / PAGE_SIZE) + "번 페이지");
+			}
+		}
+	}
+
+	private void writeFully(ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			channel.write(buf, position + buf.position());
+		}
+	}
+
+	private static byte[] readBytes(ByteBuffer buf) {
+		byte[] b = new byte[buf.getShort() & 0xFFFF];
+		buf.get(b);
+		return b;
+	}
+
+	private static void writeBytes(ByteBuffer buf, byte[] b) {
+		buf.putShort((short) b.length);
+		buf.put(b);
+	}
+
+	/**
+	 * 페이지 하나를 읽어 들인 형태입니다. 리프는 키와 값을, 내부 노드는 키와 (키 수 + 1)개의 자식 페이지를 가집니다.
+	 */
+	private static final class Node {
+		final int page;
+		final boolean leaf;
+		final List<byte[]> keys = new ArrayList<>();
+		final List<byte[]> values = new ArrayList<>();
+		final List<Integer> children = new ArrayList<>();
+		int next = NO_PAGE;
+		boolean dirty;
+
+		Node(int page, boolean leaf) {
+			this.page = page;
+			this.leaf = leaf;
+		}
+
+		int entrySize(int i) {
+			return 2 + keys.get(i).length + (leaf ? 2 + values.get(i).length : 4);
+		}
+
+		int encodedSize() {
+			int size = NODE_HEADER;
+			for (int i = 0; i < keys.size(); i++) {
+				size += entrySize(i);
+			}
+			return size;
+		}
+	}
+
+	/**
+	 * 나뉜 노드의 오른쪽 페이지와 부모에 추가할 구분 키입니다.
+	 */
+	private static final class Split {
+		final byte[] separator;
+		final int right;
+
+		Split(byte[] separator, int right) {
+			this.separator = separator;
+			this.right = right;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.gh.service;
+
+/**
+ * {@code Durability}는 예약 변경 이벤트를 저널 파일에 기록하는 시점과 디스크 반영 수준을 정의합니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public enum Durability {
+	/**
+	 * 예약 호출은 메모리 상태만 바꾸고 바로 반환합니다. 백그라운드 스레드가 일정 간격마다 모인 이벤트를 한 번에 기록하며, 디스크
+	 * 반영은 운영체제에 맡깁니다. 가장 빠르지만 전원이 꺼지면 마지막 간격의 변경이 사라질 수 있습니다.
+	 */
+	ASYNC,
+
+	/**
+	 * {@link #ASYNC}와 같이 백그라운드에서 모아 기록하되, 기록할 때마다 파일을 디스크에 강제로 반영합니다. 잃을 수 있는 변경은
+	 * 마지막 기록 간격 이내로 제한됩니다.
+	 */
+	ASYNC_FORCE,
+
+	/**
+	 * 예약 호출 스레드는 자신의 변경이 디스크에 반영될 때까지 기다리지만, 기록은 백그라운드 스레드가 합니다. 앞선 그룹을 기록하는 동안
+	 * 여러 스레드에서 들어온 변경은 다음 그룹으로 묶여 파일마다 한 번만 디스크에 반영되므로(그룹 커밋), 반환된 변경은 잃지 않으면서
+	 * 작은 예약이 많아도 처리량이 {@link #SYNC}보다 높습니다.
+	 */
+	GROUP_COMMIT,
+
+	/**
+	 * 예약 호출 스레드에서 바로 기록하고 디스크에 반영한 뒤 반환합니다. 반환된 변경은 잃지 않지만 디스크 지연이 호출 시간에 그대로
+	 * 포함됩니다.
+	 */
+	SYNC
+}
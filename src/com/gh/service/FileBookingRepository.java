@@ -0,0 +1,61 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+import com.gh.user.Customer;
+
+/**
+ * {@code FileBookingRepository} 클래스는 {@link BookingFileManager}의 게스트하우스/월별 CSV 저널 파일에 예약을 저장하는
+ * {@link BookingRepository} 구현체이며, 예약 서비스의 기본 저장소입니다.
+ *
+ * <p>
+ * 저장은 저널 기록 단계에 넘기고 바로 반환합니다. 조회는 앞서 저장을 요청한 이벤트를 모두 기록한 뒤, 해당하는 파티션의 파일을 읽어
+ * 처리합니다. 예약 ID로 조회할 때 예약이 저장된 파티션을 모르면 모든 파티션을 읽습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class FileBookingRepository implements BookingRepository {
+
+	@Override
+	public void save(List<BookingEvent> events) {
+		BookingFileManager.appendEvents(events);
+	}
+
+	@Override
+	public void flush() {
+		BookingFileManager.flush();
+	}
+
+	@Override
+	public List<Booking> load(List<Customer> customers, List<Guesthouse> guesthouseList, LocalDate from,
+			LocalDate to) {
+		List<Booking> loaded = BookingFileManager.readBookings(customers, guesthouseList,
+				from == null ? null : YearMonth.from(from), to == null ? null : YearMonth.from(to));
+		if (from == null && to == null) {
+			return loaded;
+		}
+		// 파티션은 월 단위이므로 경계 월의 범위 밖 예약을 제외
+		return loaded.stream()
+				.filter(b -> (from == null || !b.getStartDate().isBefore(from))
+						&& (to == null || !b.getStartDate().isAfter(to)))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public BookingRecord findById(String bookingId) {
+		BookingFileManager.flush();
+		return BookingFileManager.findRecord(bookingId);
+	}
+
+	@Override
+	public List<BookingRecord> findByGuesthouse(String guesthouseId, LocalDate from, LocalDate to) {
+		BookingFileManager.flush();
+		return BookingFileManager.findRecords(guesthouseId, from, to);
+	}
+}
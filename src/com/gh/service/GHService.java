@@ -3,6 +3,7 @@ package com.gh.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.gh.exception.BookingNotFoundException;
 import com.gh.model.Booking;
 
 /**
@@ -35,6 +36,18 @@ public interface GHService {
 	 * 
 	 * @param bookingId 조회할 예약의 고유 ID
 	 * @return 예약 ID에 해당하는 {@link Booking} 객체, 존재하지 않으면 {@code null}
+	 * @deprecated 예약 ID의 해시코드로 비교하므로 다른 예약이 조회될 수 있습니다. {@link #findBookingById(String)}를
+	 *             사용하세요.
 	 */
+	@Deprecated
 	Booking findBooking(int bookingId);
+
+	/**
+	 * 예약 ID와 정확히 일치하는 예약 정보를 조회합니다.
+	 * 
+	 * @param bookingId 조회할 예약 ID
+	 * @return 예약 ID에 해당하는 {@link Booking} 객체
+	 * @throws BookingNotFoundException 해당 ID의 예약이 존재하지 않는 경우
+	 */
+	Booking findBookingById(String bookingId) throws BookingNotFoundException;
 }
@@ -66,7 +66,7 @@ public class GuesthouseManager {
 	 */
 	public double calcReservationRate(Guesthouse guesthouse, LocalDate date) {
 		int capacity = guesthouse.getMaxPeople();
-		int reserved = guesthouse.getDailyPeople().getOrDefault(date, 0);
+		int reserved = guesthouse.getOccupancy(date);
 
 		if (capacity == 0)
 			return 0.0;
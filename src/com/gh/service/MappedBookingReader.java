@@ -0,0 +1,589 @@
+package com.gh.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+import com.gh.user.Customer;
+
+/**
+ * {@code MappedBookingReader} 클래스는 예약 CSV 파일과 저널 파일을 메모리 매핑하여 바이트에서 바로 파싱합니다.
+ *
+ * <p>
+ * 줄을 {@code String}으로 만들거나 {@code split}, {@code trim}, {@code LocalDate.parse}를 거치지 않고, 날짜와
+ * 숫자는 바이트를 직접 계산하여 얻습니다. 게스트하우스 ID와 고객 이메일도 바이트 그대로 찾으므로, 한 줄에서 새로 만드는 객체는
+ * 예약 ID 문자열과 {@link Booking}(및 그 날짜) 정도입니다.
+ * </p>
+ *
+ * <p>
+ * 파일은 줄 경계에 맞춘 구간 단위로 매핑하므로 2GB를 넘는 파일도 읽을 수 있습니다. 저널의 마지막 줄이 줄바꿈 없이 끝나면 기록
+ * 도중 중단된 줄로 보고 무시합니다. 형식이 올바르지 않은 줄도 건너뜁니다. 하나의 객체는 한 스레드에서만 사용해야 합니다.
+ * </p>
+ *
+ * <p>
+ * 큰 파일은 줄 경계에서 여러 조각으로 나누어 {@link ForkJoinPool#commonPool() 공용 fork-join 풀}에서 나누어 파싱합니다.
+ * 조각별 결과는 파일 순서대로 합치므로, 예약 순서와 예약 ID별 마지막 상태는 한 스레드에서 처음부터 읽은 결과와 같습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class MappedBookingReader {
+	/** 한 번에 매핑하는 최대 크기 (바이트) */
+	private static final long WINDOW_BYTES = 1L << 30;
+	/** 나누어 파싱할 조각의 최소 크기 (바이트) */
+	private static final int MIN_CHUNK_BYTES = 1 << 20;
+
+	private static final byte[][] EVENT_NAMES = eventNames();
+	private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+	private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+	private static final long[] POW10 = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+			100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+			10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L };
+
+	private final ByteKeyTable<Guesthouse> guesthouses;
+	/** 고객 이메일 → 고객 */
+	private final ByteKeyTable<Customer> customers;
+	/** 이메일 칸이 비어 있는 줄의 고객 ({@code null}이면 그런 줄은 건너뜀) */
+	private final Customer owner;
+	/** 메시지에 표시할 파일 이름 */
+	private final String label;
+
+	/** 현재 칸의 범위 [fieldStart, fieldEnd) (앞뒤 공백 제외) */
+	private int fieldStart;
+	private int fieldEnd;
+	/** 다음 칸을 찾기 시작할 위치 */
+	private int cursor;
+	/** 현재 줄에서 형식 오류가 있었는지 여부 */
+	private boolean malformed;
+
+	/**
+	 * 읽은 예약은 이메일 칸으로 찾은 고객과 연결됩니다({@link Booking#getCustomer()}). 목록에 없는 고객의 예약은 건너뜁니다.
+	 *
+	 * @param guesthouseList 예약과 연결할 게스트하우스 목록
+	 * @param customerList   예약과 연결할 고객 목록
+	 * @param owner          이메일 칸이 비어 있는 줄의 고객 (예전 방식의 고객별 파일), 없으면 {@code null}
+	 * @param label          메시지에 표시할 파일 이름
+	 */
+	MappedBookingReader(List<Guesthouse> guesthouseList, Collection<Customer> customerList, Customer owner,
+			String label) {
+		Map<String, Guesthouse> guesthouseById = new LinkedHashMap<>();
+		for (Guesthouse gh : guesthouseList) {
+			// 같은 ID가 여러 번 있으면 목록에서 먼저 나온 게스트하우스 사용
+			guesthouseById.putIfAbsent(gh.getBookingId(), gh);
+		}
+		Map<String, Customer> customerByEmail = new LinkedHashMap<>();
+		for (Customer c : customerList) {
+			customerByEmail.putIfAbsent(c.getEmail(), c);
+		}
+		this.guesthouses = new ByteKeyTable<>(guesthouseById);
+		this.customers = new ByteKeyTable<>(customerByEmail);
+		this.owner = owner;
+		this.label = label;
+	}
+
+	/**
+	 * 같은 게스트하우스, 고객 색인을 쓰는 새 객체를 만듭니다. 조각을 파싱하는 스레드마다 하나씩 사용합니다.
+	 */
+	MappedBookingReader(MappedBookingReader other) {
+		this.guesthouses = other.guesthouses;
+		this.customers = other.customers;
+		this.owner = other.owner;
+		this.label = other.label;
+	}
+
+	/**
+	 * 파일 전체를 읽어 예약 ID별 마지막 상태를 기록된 순서대로 남깁니다. 첫 줄은 헤더로 보고 건너뜁니다. 큰 파일은 여러 스레드에서
+	 * 나누어 파싱합니다. 다른 파티션으로 옮겨진 예약({@link BookingEvent.Type#MOVED})은 값을 {@code null}로 남기므로, 모든
+	 * 파일을 읽은 뒤 호출하는 쪽에서 제거합니다.
+	 *
+	 * @param file    읽을 파일
+	 * @param journal 저널 형식(첫 칸이 이벤트 종류)이면 {@code true}, 예약 CSV 형식이면 {@code false}
+	 * @param latest  예약 ID → 예약
+	 * @throws IOException 파일을 읽을 수 없는 경우
+	 */
+	void readFile(File file, boolean journal, Map<String, Booking> latest) throws IOException {
+		try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = ch.size();
+			long offset = 0;
+			boolean header = true;
+			while (offset < size) {
+				long length = Math.min(WINDOW_BYTES, size - offset);
+				MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, offset, length);
+				int end = (int) length;
+				if (offset + length < size) {
+					// 다음 구간이 줄 중간에서 시작하지 않도록 마지막 줄바꿈까지만 처리
+					end = lastLineEnd(buf, 0, end);
+					if (end == 0) {
+						throw new IOException("한 줄이 너무 깁니다: " + file);
+					}
+				}
+				int from = 0;
+				if (header) {
+					from = nextLine(buf, 0, end);
+					header = false;
+				}
+				readChunks(buf, from, end, journal, latest);
+				offset += end;
+			}
+		}
+	}
+
+	/**
+	 * 버퍼의 [from, to) 구간을 줄 단위로 파싱합니다. 구간은 줄의 시작에서 시작해야 합니다.
+	 *
+	 * @param buf     파일 내용
+	 * @param from    시작 위치 (줄의 시작)
+	 * @param to      끝 위치
+	 * @param journal 저널 형식이면 {@code true}
+	 * @param latest  예약 ID → 예약
+	 */
+	void read(ByteBuffer buf, int from, int to, boolean journal, Map<String, Booking> latest) {
+		int pos = from;
+		while (pos < to) {
+			int lineEnd = indexOf(buf, (byte) '\n', pos, to);
+			if (lineEnd < 0) {
+				// 줄바꿈 없이 끝난 저널의 마지막 줄은 기록 도중 중단된 줄
+				if (!journal) {
+					parseLine(buf, pos, to, false, latest);
+				}
+				return;
+			}
+			parseLine(buf, pos, lineEnd, journal, latest);
+			pos = lineEnd + 1;
+		}
+	}
+
+	/**
+	 * [from, to) 구간을 CPU 수에 맞추어 줄 경계에서 나누고 fork-join 풀에서 파싱한 뒤 순서대로 합칩니다. 구간이 작으면 현재
+	 * 스레드에서 바로 파싱합니다.
+	 */
+	private void readChunks(ByteBuffer buf, int from, int to, boolean journal, Map<String, Booking> latest) {
+		int chunks = (int) Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L, (to - from) / MIN_CHUNK_BYTES);
+		if (chunks <= 1) {
+			read(buf, from, to, journal, latest);
+			return;
+		}
+
+		int[] bounds = new int[chunks + 1];
+		bounds[0] = from;
+		bounds[chunks] = to;
+		for (int k = 1; k < chunks; k++) {
+			int target = from + (int) ((long) (to - from) * k / chunks);
+			// 줄 중간이면 다음 줄의 시작으로 이동
+			bounds[k] = Math.max(bounds[k - 1], nextLine(buf, target - 1, to));
+		}
+		latest.putAll(ForkJoinPool.commonPool().invoke(new ChunkTask(buf, bounds, 0, chunks, journal)));
+	}
+
+	/**
+	 * @return [from, to)에서 첫 줄 다음 줄의 시작 위치 (줄바꿈이 없으면 {@code to})
+	 */
+	static int nextLine(ByteBuffer buf, int from, int to) {
+		int lineEnd = indexOf(buf, (byte) '\n', from, to);
+		return lineEnd < 0 ? to : lineEnd + 1;
+	}
+
+	/**
+	 * @return [from, to)에서 마지막 줄바꿈 다음 위치 (줄바꿈이 없으면 {@code from})
+	 */
+	static int lastLineEnd(ByteBuffer buf, int from, int to) {
+		for (int i = to - 1; i >= from; i--) {
+			if (buf.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return from;
+	}
+
+	private void parseLine(ByteBuffer buf, int start, int end, boolean journal, Map<String, Booking> latest) {
+		if (end > start && buf.get(end - 1) == '\r') {
+			end--;
+		}
+		cursor = start;
+		malformed = false;
+
+		int event = -1;
+		if (journal && (!nextField(buf, end) || (event = eventIndex(buf)) < 0)) {
+			return;
+		}
+		if (!nextField(buf, end)) {
+			return;
+		}
+		int idStart = fieldStart;
+		int idEnd = fieldEnd;
+
+		long startDay = nextField(buf, end) ? parseDate(buf) : 0;
+		long endDay = nextField(buf, end) ? parseDate(buf) : 0;
+		int bookingDays = nextField(buf, end) ? (int) parseLong(buf) : 0;
+		int numberOfPeople = nextField(buf, end) ? (int) parseLong(buf) : 0;
+		boolean cancelled = nextField(buf, end) && parseBoolean(buf);
+		if (!nextField(buf, end) || malformed) {
+			return;
+		}
+		int ghStart = fieldStart;
+		int ghEnd = fieldEnd;
+
+		boolean hasEmail = nextField(buf, end) && fieldEnd > fieldStart;
+		if (journal && !hasEmail) {
+			return;
+		}
+		int emailStart = fieldStart;
+		int emailEnd = fieldEnd;
+		boolean hasAmount = nextField(buf, end) && fieldEnd > fieldStart;
+		// 저널은 항상 금액까지 기록하므로 금액이 없는 줄은 잘린 줄
+		if (journal && !hasAmount) {
+			return;
+		}
+		double totalAmount = hasAmount ? parseDouble(buf) : 0;
+		if (malformed || idEnd == idStart) {
+			return;
+		}
+		if (event == BookingEvent.Type.MOVED.ordinal()) {
+			latest.put(decode(buf, idStart, idEnd), null);
+			return;
+		}
+
+		// 다른 고객의 예약이 섞여 저장된 파일이라면 목록에 있는 고객의 예약만 불러오기
+		Customer customer = hasEmail ? customers.get(buf, emailStart, emailEnd) : owner;
+		if (customer == null) {
+			if (owner == null) {
+				System.out.println("[" + label + "] 이메일 " + (hasEmail ? decode(buf, emailStart, emailEnd) : "(없음)")
+						+ "에 해당하는 고객이 없습니다.");
+			}
+			return;
+		}
+		Guesthouse gh = guesthouses.get(buf, ghStart, ghEnd);
+		if (gh == null) {
+			System.out.println("[" + label + "] 게스트하우스 ID " + decode(buf, ghStart, ghEnd) + "에 해당하는 숙소가 없습니다.");
+			return;
+		}
+
+		String bookingId = decode(buf, idStart, idEnd);
+		Booking booking = new Booking(bookingId, LocalDate.ofEpochDay(startDay), LocalDate.ofEpochDay(endDay),
+				bookingDays, numberOfPeople, gh);
+		booking.setIsCancled(cancelled);
+		booking.setTotalAmount(totalAmount);
+		booking.setCustomer(customer);
+		latest.put(bookingId, booking);
+	}
+
+	/**
+	 * 다음 칸으로 이동합니다. 칸 범위에서 앞뒤 공백은 제외합니다.
+	 *
+	 * @return 칸이 있으면 {@code true}, 줄이 끝났으면 {@code false}
+	 */
+	private boolean nextField(ByteBuffer buf, int end) {
+		if (cursor > end) {
+			return false;
+		}
+		int comma = indexOf(buf, (byte) ',', cursor, end);
+		int stop = comma < 0 ? end : comma;
+		int s = cursor;
+		int e = stop;
+		while (s < e && buf.get(s) == ' ') {
+			s++;
+		}
+		while (e > s && buf.get(e - 1) == ' ') {
+			e--;
+		}
+		fieldStart = s;
+		fieldEnd = e;
+		cursor = stop + 1;
+		return true;
+	}
+
+	private int eventIndex(ByteBuffer buf) {
+		for (int i = 0; i < EVENT_NAMES.length; i++) {
+			if (equalsField(buf, EVENT_NAMES[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean equalsField(ByteBuffer buf, byte[] expected) {
+		if (fieldEnd - fieldStart != expected.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			if (buf.get(fieldStart + i) != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean parseBoolean(ByteBuffer buf) {
+		if (equalsField(buf, TRUE)) {
+			return true;
+		}
+		if (!equalsField(buf, FALSE)) {
+			malformed = true;
+		}
+		return false;
+	}
+
+	private long parseLong(ByteBuffer buf) {
+		int i = fieldStart;
+		boolean negative = i < fieldEnd && buf.get(i) == '-';
+		if (negative) {
+			i++;
+		}
+		if (i == fieldEnd || fieldEnd - i > 18) {
+			malformed = true;
+			return 0;
+		}
+		long value = 0;
+		for (; i < fieldEnd; i++) {
+			int d = buf.get(i) - '0';
+			if (d < 0 || d > 9) {
+				malformed = true;
+				return 0;
+			}
+			value = value * 10 + d;
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * {@code yyyy-MM-dd} 형식의 날짜를 epoch day로 변환합니다. 다른 형식은 {@link LocalDate#parse}로 처리합니다.
+	 */
+	private long parseDate(ByteBuffer buf) {
+		int s = fieldStart;
+		if (fieldEnd - s != 10 || buf.get(s + 4) != '-' || buf.get(s + 7) != '-') {
+			return parseDateSlow(buf);
+		}
+		int year = digits(buf, s, 4);
+		int month = digits(buf, s + 5, 2);
+		int day = digits(buf, s + 8, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+			malformed = true;
+			return 0;
+		}
+		// 그레고리력 날짜 → 1970-01-01 기준 일수
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	private long parseDateSlow(ByteBuffer buf) {
+		try {
+			return LocalDate.parse(decode(buf, fieldStart, fieldEnd)).toEpochDay();
+		} catch (RuntimeException e) {
+			malformed = true;
+			return 0;
+		}
+	}
+
+	/**
+	 * {@code String.valueOf(double)}로 기록된 금액을 읽습니다. 지수 표기가 없고 유효 숫자가 15자리 이하이면 바이트에서 바로
+	 * 계산하고, 그렇지 않으면 {@link Double#parseDouble}을 사용합니다.
+	 */
+	private double parseDouble(ByteBuffer buf) {
+		int i = fieldStart;
+		boolean negative = i < fieldEnd && buf.get(i) == '-';
+		if (negative) {
+			i++;
+		}
+		long mantissa = 0;
+		int digitCount = 0;
+		int fractionDigits = -1;
+		for (; i < fieldEnd; i++) {
+			byte b = buf.get(i);
+			if (b == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+				continue;
+			}
+			int d = b - '0';
+			if (d < 0 || d > 9 || digitCount >= 15) {
+				return parseDoubleSlow(buf);
+			}
+			mantissa = mantissa * 10 + d;
+			digitCount++;
+			if (fractionDigits >= 0) {
+				fractionDigits++;
+			}
+		}
+		if (digitCount == 0) {
+			malformed = true;
+			return 0;
+		}
+		// 2^53 미만의 정수를 10의 거듭제곱(정확히 표현됨)으로 나누므로 결과는 가장 가까운 double
+		double value = fractionDigits > 0 ? (double) mantissa / POW10[fractionDigits] : mantissa;
+		return negative ? -value : value;
+	}
+
+	private double parseDoubleSlow(ByteBuffer buf) {
+		try {
+			return Double.parseDouble(decode(buf, fieldStart, fieldEnd));
+		} catch (NumberFormatException e) {
+			malformed = true;
+			return 0;
+		}
+	}
+
+	private static int digits(ByteBuffer buf, int from, int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) {
+			int d = buf.get(i) - '0';
+			if (d < 0 || d > 9) {
+				return -1;
+			}
+			value = value * 10 + d;
+		}
+		return value;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+		case 2:
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	private static int indexOf(ByteBuffer buf, byte target, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buf.get(i) == target) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String decode(ByteBuffer buf, int from, int to) {
+		byte[] bytes = new byte[to - from];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = buf.get(from + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[][] eventNames() {
+		BookingEvent.Type[] types = BookingEvent.Type.values();
+		byte[][] names = new byte[types.length][];
+		for (int i = 0; i < types.length; i++) {
+			names[i] = types[i].name().getBytes(StandardCharsets.US_ASCII);
+		}
+		return names;
+	}
+
+	/**
+	 * 조각 [lo, hi)를 절반씩 나누어 파싱하고, 왼쪽 결과에 오른쪽 결과를 덮어써 파일 순서대로 합칩니다. {@link LinkedHashMap}은
+	 * 이미 있는 키를 덮어써도 처음 위치를 유지하므로, 합친 결과는 처음부터 차례로 읽은 결과와 같습니다.
+	 */
+	private final class ChunkTask extends RecursiveTask<Map<String, Booking>> {
+		private static final long serialVersionUID = 1L;
+
+		private final ByteBuffer buf;
+		private final int[] bounds;
+		private final int lo;
+		private final int hi;
+		private final boolean journal;
+
+		ChunkTask(ByteBuffer buf, int[] bounds, int lo, int hi, boolean journal) {
+			this.buf = buf;
+			this.bounds = bounds;
+			this.lo = lo;
+			this.hi = hi;
+			this.journal = journal;
+		}
+
+		@Override
+		protected Map<String, Booking> compute() {
+			if (hi - lo == 1) {
+				Map<String, Booking> found = new LinkedHashMap<>();
+				// 위치 상태를 공유하지 않도록 스레드마다 버퍼 복제본과 파서를 사용
+				new MappedBookingReader(MappedBookingReader.this).read(buf.duplicate(), bounds[lo], bounds[hi], journal,
+						found);
+				return found;
+			}
+			int mid = (lo + hi) >>> 1;
+			ChunkTask right = new ChunkTask(buf, bounds, mid, hi, journal);
+			right.fork();
+			Map<String, Booking> merged = new ChunkTask(buf, bounds, lo, mid, journal).compute();
+			merged.putAll(right.join());
+			return merged;
+		}
+	}
+
+	/**
+	 * 문자열 키(게스트하우스 ID, 고객 이메일)의 UTF-8 바이트로 값을 찾는 개방 주소법 해시 테이블입니다. 찾을 때 문자열을 만들지
+	 * 않습니다.
+	 */
+	private static final class ByteKeyTable<T> {
+		private final byte[][] keys;
+		private final Object[] values;
+		private final int mask;
+
+		ByteKeyTable(Map<String, T> entries) {
+			int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+			keys = new byte[capacity][];
+			values = new Object[capacity];
+			mask = capacity - 1;
+			for (Map.Entry<String, T> entry : entries.entrySet()) {
+				byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+				int i = hash(ByteBuffer.wrap(key), 0, key.length) & mask;
+				while (keys[i] != null) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+				values[i] = entry.getValue();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		T get(ByteBuffer buf, int from, int to) {
+			int i = hash(buf, from, to) & mask;
+			while (keys[i] != null) {
+				if (matches(keys[i], buf, from, to)) {
+					return (T) values[i];
+				}
+				i = (i + 1) & mask;
+			}
+			return null;
+		}
+
+		private static boolean matches(byte[] key, ByteBuffer buf, int from, int to) {
+			if (key.length != to - from) {
+				return false;
+			}
+			for (int i = 0; i < key.length; i++) {
+				if (key[i] != buf.get(from + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static int hash(ByteBuffer buf, int from, int to) {
+			int h = 0;
+			for (int i = from; i < to; i++) {
+				h = 31 * h + buf.get(i);
+			}
+			return h ^ (h >>> 16);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.gh.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+
+/**
+ * {@code PromotionBenchmark} 클래스는 대기열 자동 예약 방식({@link PromotionPolicy})별로 취소된 자리가 얼마나 다시 채워지는지와
+ * 자동 예약할 요청을 고르는 데 걸리는 시간을 비교합니다.
+ *
+ * <p>
+ * 게스트하우스 하나를 무작위 예약으로 채우고 대기 요청 {@value #INITIAL_WAITING}건을 등록한 뒤, 취소 한 건마다 새 대기 요청을 한 건
+ * 등록하고 취소된 기간과 겹치는 대기 요청을 정책에 따라 예약합니다. 같은 시드를 쓰므로 모든 정책이 같은 요청과 취소 순서를 받습니다.
+ * 예약 서비스와 파일을 사용하지 않고 게스트하우스의 날짜별 인원만 바꿉니다.
+ * </p>
+ *
+ * <pre>
+ * java com.gh.service.PromotionBenchmark [취소 횟수=20000] [시드=42] [공정성 기간(분)=30]
+ * </pre>
+ *
+ * <ul>
+ * <li>채움률: 취소 직후 취소된 기간의 빈자리(인원×숙박일) 중 자동 예약으로 채워진 비율</li>
+ * <li>추월: 먼저 요청했고 그 자리에 들어갈 수 있었던 요청을 두고 나중 요청이 예약된 횟수</li>
+ * <li>지연: 취소 한 건에 대해 자동 예약할 요청을 고르는 시간</li>
+ * </ul>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class PromotionBenchmark {
+	private static final int CAPACITY = 12;
+	private static final int HORIZON_DAYS = 90;
+	private static final int MAX_NIGHTS = 5;
+	private static final int MAX_PEOPLE = 6;
+	private static final int INITIAL_WAITING = 300;
+
+	public static void main(String[] args) {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+		Duration window = Duration.ofMinutes(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+		System.out.printf("취소 %d건, 시드 %d, 최대 수용 인원 %d, 공정성 기간 %d분%n", rounds, seed, CAPACITY,
+				window.toMinutes());
+		System.out.printf("%-16s %8s %10s %8s %10s %10s %10s%n", "정책", "채움률", "자동 예약", "추월", "평균(us)", "p99(us)",
+				"최대(us)");
+		// 첫 실행은 JIT 준비용
+		run(PromotionPolicy.MAX_UTILIZATION, Math.min(rounds, 2_000), seed, window);
+		for (PromotionPolicy policy : PromotionPolicy.values()) {
+			System.out.println(run(policy, rounds, seed, window));
+		}
+	}
+
+	private static Result run(PromotionPolicy policy, int rounds, long seed, Duration window) {
+		Random random = new Random(seed);
+		Guesthouse gh = new Guesthouse("BENCH", "benchmark", "bench", 1.0, CAPACITY, 0, "");
+		LocalDate base = LocalDate.of(2030, 1, 1);
+		LocalDateTime clock = LocalDateTime.of(2029, 1, 1, 0, 0);
+		WaitingList waitingList = new WaitingList();
+		List<Booking> placed = new ArrayList<>();
+
+		// 무작위 예약으로 채움
+		for (int i = 0; i < HORIZON_DAYS * CAPACITY; i++) {
+			Booking b = randomBooking(random, gh, base);
+			if (gh.canBook(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople())) {
+				gh.addPeople(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+				placed.add(b);
+			}
+		}
+
+		for (int i = 0; i < INITIAL_WAITING; i++) {
+			clock = clock.plusSeconds(1 + random.nextInt(600));
+			waitingList.add(null, randomBooking(random, gh, base), clock);
+		}
+
+		Result result = new Result(policy, rounds);
+		for (int round = 0; round < rounds && !placed.isEmpty(); round++) {
+			clock = clock.plusSeconds(1 + random.nextInt(600));
+			waitingList.add(null, randomBooking(random, gh, base), clock);
+
+			Booking cancelled = placed.remove(random.nextInt(placed.size()));
+			gh.removePeople(cancelled.getStartDate(), cancelled.getEndDate(), cancelled.getNumberOfPeople());
+			long freeBefore = freeSeatNights(gh, cancelled);
+
+			List<WaitingRequest> candidates = waitingList.findOverlapping(gh.getBookingId(),
+					cancelled.getStartDate(), cancelled.getEndDate());
+			long started = System.nanoTime();
+			List<WaitingRequest> selected = WaitlistPromoter.select(gh, candidates, policy, window);
+			result.latencies[round] = System.nanoTime() - started;
+
+			result.overtakes += countOvertakes(gh, candidates, selected);
+			for (WaitingRequest req : selected) {
+				Booking b = req.booking;
+				gh.addPeople(b.getStartDate(), b.getEndDate(), b.getNumberOfPeople());
+				waitingList.remove(req);
+				placed.add(b);
+				result.promoted++;
+			}
+			result.freed += freeBefore;
+			result.filled += freeBefore - freeSeatNights(gh, cancelled);
+			result.rounds = round + 1;
+		}
+		return result;
+	}
+
+	/**
+	 * 고르지 않았지만 고르기 전에 들어갈 수 있었던 요청마다, 그보다 나중에 요청했는데 예약된 요청 수를 셉니다.
+	 */
+	private static int countOvertakes(Guesthouse gh, List<WaitingRequest> candidates, List<WaitingRequest> selected) {
+		int overtakes = 0;
+		int later = selected.size();
+		int next = 0;
+		for (WaitingRequest req : candidates) {
+			if (next < selected.size() && selected.get(next) == req) {
+				next++;
+				later--;
+			} else if (later > 0 && gh.canBook(req.booking.getStartDate(), req.booking.getEndDate(),
+					req.booking.getNumberOfPeople())) {
+				overtakes += later;
+			}
+		}
+		return overtakes;
+	}
+
+	private static Booking randomBooking(Random random, Guesthouse gh, LocalDate base) {
+		return new Booking(base.plusDays(random.nextInt(HORIZON_DAYS)), 1 + random.nextInt(MAX_NIGHTS),
+				1 + random.nextInt(MAX_PEOPLE), gh);
+	}
+
+	/**
+	 * 예약 기간의 남은 자리 합 (인원×숙박일)
+	 */
+	private static long freeSeatNights(Guesthouse gh, Booking b) {
+		long free = 0;
+		for (LocalDate d = b.getStartDate(); d.isBefore(b.getEndDate()); d = d.plusDays(1)) {
+			free += gh.getMaxPeople() - gh.getOccupancy(d);
+		}
+		return free;
+	}
+
+	private static final class Result {
+		private final PromotionPolicy policy;
+		private final long[] latencies;
+		private int rounds;
+		private long freed;
+		private long filled;
+		private int promoted;
+		private long overtakes;
+
+		Result(PromotionPolicy policy, int rounds) {
+			this.policy = policy;
+			this.latencies = new long[rounds];
+		}
+
+		@Override
+		public String toString() {
+			long[] sorted = Arrays.copyOf(latencies, rounds);
+			Arrays.sort(sorted);
+			double average = rounds == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000.0;
+			double p99 = rounds == 0 ? 0 : sorted[Math.min(rounds - 1, (int) (rounds * 0.99))] / 1_000.0;
+			double max = rounds == 0 ? 0 : sorted[rounds - 1] / 1_000.0;
+			return String.format("%-16s %7.1f%% %10d %8d %10.1f %10.1f %10.1f", policy,
+					freed == 0 ? 0 : 100.0 * filled / freed, promoted, overtakes, average, p99, max);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.gh.service;
+
+/**
+ * {@code PromotionPolicy}는 취소로 자리가 생겼을 때 예약 대기열의 어떤 요청을 자동 예약할지 정하는 방식을 정의합니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public enum PromotionPolicy {
+	/**
+	 * 요청 순서대로 예약하고, 들어갈 수 없는 요청을 만나면 멈춥니다. 먼저 요청한 고객보다 나중 요청이 먼저 예약되는 일이 없지만, 앞
+	 * 요청이 크면 남은 자리가 비어 있게 됩니다.
+	 */
+	STRICT_FIFO,
+
+	/**
+	 * 요청 순서대로 예약하되, 들어갈 수 없는 요청은 건너뛰고 뒤의 요청으로 남은 자리를 채웁니다. 기본 방식입니다.
+	 */
+	FIFO_BACKFILL,
+
+	/**
+	 * 가장 오래된 요청부터 공정성 기간 안에 들어온 요청들 중에서 채워지는 인원×숙박일(seat-night)이 가장 많은 조합을 골라 예약한 뒤,
+	 * 나머지 요청으로 남은 자리를 요청 순서대로 채웁니다. 합이 같으면 먼저 요청한 쪽을 고르며, 한 번에 비교하는 요청 수와 탐색 횟수에
+	 * 상한이 있습니다.
+	 */
+	MAX_UTILIZATION
+}
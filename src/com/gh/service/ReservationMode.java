@@ -0,0 +1,19 @@
+package com.gh.service;
+
+/**
+ * {@code ReservationMode}는 예약 시 게스트하우스의 자리를 확보하는 방식을 정의합니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public enum ReservationMode {
+	/**
+	 * 게스트하우스별 스트라이프 락을 잡고 확인 후 인원을 추가합니다. 날짜별 인원은 세그먼트 트리에 저장되어 구간 연산이 O(log n)입니다.
+	 */
+	LOCKING,
+
+	/**
+	 * 락 없이 날짜별 원자적 카운터를 CAS로 하루씩 확보하고, 수용 인원을 넘는 날짜를 만나면 확보한 날짜를 되돌립니다. 같은 날짜에 예약이
+	 * 몰릴 때 스레드가 락을 기다리지 않습니다.
+	 */
+	OPTIMISTIC
+}
@@ -0,0 +1,161 @@
+package com.gh.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gh.model.Guesthouse;
+import com.gh.model.PartyGH;
+
+/**
+ * {@code ReservationStressTest} 클래스는 여러 스레드가 같은 파티 게스트하우스의 주말에 동시에 예약과 취소를 반복해도 어느 날짜도
+ * 최대 수용 인원을 넘지 않는지 확인합니다.
+ *
+ * <p>
+ * 예약 방식({@link ReservationMode})마다 스레드들이 금~일 사이의 무작위 기간을
+ * {@link Guesthouse#tryReserve(LocalDate, LocalDate, int)}로 예약하고, 확보한 예약 일부를
+ * {@link Guesthouse#removePeople(LocalDate, LocalDate, int)}로 취소합니다. 그동안 감시 스레드가 날짜별 인원을 계속 읽어
+ * 최대 수용 인원을 넘는 순간이 있는지 확인하고, 끝난 뒤에는 날짜별 인원이 남아 있는 예약의 인원 합과 같은지 확인합니다. 예약 서비스와
+ * 파일을 사용하지 않고 게스트하우스의 날짜별 인원만 바꿉니다.
+ * </p>
+ *
+ * <pre>
+ * java com.gh.service.ReservationStressTest [스레드 수=8] [스레드당 시도 횟수=200000] [시드=42]
+ * </pre>
+ *
+ * 하나라도 어긋나면 내용을 출력하고 종료 코드 1로 끝납니다.
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class ReservationStressTest {
+	private static final int CAPACITY = 20;
+	private static final int WEEKENDS = 4;
+	private static final int MAX_PEOPLE = 4;
+	/** 확보한 예약을 취소할 확률 (%) */
+	private static final int CANCEL_PERCENT = 45;
+
+	public static void main(String[] args) throws InterruptedException {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		int attempts = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+		System.out.printf("스레드 %d개, 스레드당 %d회, 시드 %d, 최대 수용 인원 %d, 주말 %d개%n", threads, attempts, seed, CAPACITY,
+				WEEKENDS);
+		boolean passed = true;
+		for (ReservationMode mode : ReservationMode.values()) {
+			passed &= run(mode, threads, attempts, seed);
+		}
+		if (!passed) {
+			System.exit(1);
+		}
+	}
+
+	private static boolean run(ReservationMode mode, int threads, int attempts, long seed)
+			throws InterruptedException {
+		Guesthouse gh = new PartyGH("STRESS", null, null, 0, 0, null, "stress", "파티", 1.0, CAPACITY, 0, "", 19);
+		gh.setOptimisticReservation(mode == ReservationMode.OPTIMISTIC);
+		LocalDate firstFriday = LocalDate.of(2030, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+		LocalDate lastDay = firstFriday.plusWeeks(WEEKENDS);
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger peak = new AtomicInteger();
+		AtomicLong reserved = new AtomicLong();
+		AtomicLong rejected = new AtomicLong();
+		AtomicLong cancelled = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		List<List<int[]>> held = new ArrayList<>();
+		List<Thread> workers = new ArrayList<>();
+
+		for (int t = 0; t < threads; t++) {
+			Random random = new Random(seed + t);
+			List<int[]> mine = new ArrayList<>();
+			held.add(mine);
+			workers.add(new Thread(() -> {
+				await(start);
+				for (int i = 0; i < attempts; i++) {
+					if (!mine.isEmpty() && random.nextInt(100) < CANCEL_PERCENT) {
+						int[] stay = mine.remove(random.nextInt(mine.size()));
+						LocalDate checkIn = firstFriday.plusDays(stay[0]);
+						gh.removePeople(checkIn, checkIn.plusDays(stay[1]), stay[2]);
+						cancelled.incrementAndGet();
+						continue;
+					}
+					// 금~토, 금~일, 토~일 중 하나
+					int weekend = random.nextInt(WEEKENDS) * 7;
+					int offset = random.nextInt(2);
+					int nights = offset == 1 ? 1 : 1 + random.nextInt(2);
+					int people = 1 + random.nextInt(MAX_PEOPLE);
+					LocalDate checkIn = firstFriday.plusDays(weekend + offset);
+					if (gh.tryReserve(checkIn, checkIn.plusDays(nights), people)) {
+						mine.add(new int[] { weekend + offset, nights, people });
+						reserved.incrementAndGet();
+					} else {
+						rejected.incrementAndGet();
+					}
+				}
+			}, "stress-" + t));
+		}
+
+		// 예약하는 동안 날짜별 인원을 계속 읽어 최대 수용 인원을 넘는 순간이 있는지 확인
+		Thread monitor = new Thread(() -> {
+			await(start);
+			while (running.get()) {
+				for (LocalDate d = firstFriday; d.isBefore(lastDay); d = d.plusDays(1)) {
+					peak.accumulateAndGet(gh.getOccupancy(d), Math::max);
+				}
+			}
+		}, "stress-monitor");
+
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		monitor.start();
+		long started = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long elapsed = System.nanoTime() - started;
+		running.set(false);
+		monitor.join();
+
+		// 남아 있는 예약으로 날짜별 인원을 다시 계산하여 비교
+		int[] expected = new int[WEEKENDS * 7];
+		for (List<int[]> mine : held) {
+			for (int[] stay : mine) {
+				for (int n = 0; n < stay[1]; n++) {
+					expected[stay[0] + n] += stay[2];
+				}
+			}
+		}
+		boolean passed = peak.get() <= CAPACITY;
+		for (int day = 0; day < expected.length; day++) {
+			LocalDate date = firstFriday.plusDays(day);
+			int actual = gh.getOccupancy(date);
+			if (actual > CAPACITY || actual != expected[day]) {
+				System.out.printf("  %s: 인원 %d, 남은 예약 인원 합 %d%n", date, actual, expected[day]);
+				passed = false;
+			}
+		}
+
+		System.out.printf("%-10s %s  예약 %d, 거절 %d, 취소 %d, 최대 관측 인원 %d/%d, %.1f ms%n", mode,
+				passed ? "통과" : "실패", reserved.get(), rejected.get(), cancelled.get(), peak.get(), CAPACITY,
+				elapsed / 1_000_000.0);
+		return passed;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
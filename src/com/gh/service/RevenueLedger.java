@@ -0,0 +1,169 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+
+/**
+ * {@code RevenueLedger} 클래스는 게스트하우스별, 월별 매출을 예약이 생성, 변경, 취소될 때마다 누적하는 매출 장부입니다.
+ *
+ * <p>
+ * 예약의 매출은 체크인 날짜가 속한 달에 잡힙니다. 매출은 예약의 결제 금액({@link Booking#getTotalAmount()})을 기준으로
+ * 하며, 취소된 예약은 결제 금액에서 {@link #REFUND_RATE}만큼 뺀 금액이 매출로 남습니다. 결제 금액이 기록되지 않은 이전 형식의
+ * 예약은 매출이 0입니다. 금액은 원 단위 이하 두 자리(1/100)까지 정수로 바꾸어 (게스트하우스, 월)마다 하나의
+ * {@link LongAdder}에 더하므로, 여러 스레드가 동시에 기록해도 락 없이 O(1)로 반영되고 합계에 반올림 오차가 쌓이지 않습니다. 전체
+ * 게스트하우스의 월 합계도 함께 누적하므로, 월, 분기, 연 매출은 예약 목록을 다시 읽지 않고 최대 12개 칸을 더해 조회합니다.
+ * </p>
+ *
+ * <p>
+ * {@link #recompute(Collection)}는 예약 목록으로 장부를 처음부터 다시 만들고, {@link #verify(Collection)}는 다시 만든
+ * 장부와 누적된 장부를 비교합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class RevenueLedger {
+	/** 취소 시 환불 비율 */
+	public static final double REFUND_RATE = 0.5;
+
+	/** 게스트하우스 ID → 월 → 매출 (1/100 단위) */
+	private final Map<String, Map<Integer, LongAdder>> byHouse = new ConcurrentHashMap<>();
+	/** 월 → 전체 게스트하우스 매출 (1/100 단위) */
+	private final Map<Integer, LongAdder> total = new ConcurrentHashMap<>();
+
+	/**
+	 * 예약 목록으로 장부를 처음부터 만듭니다.
+	 *
+	 * @param bookings 예약 목록 (취소된 예약 포함)
+	 * @return 새 장부
+	 */
+	public static RevenueLedger recompute(Collection<Booking> bookings) {
+		RevenueLedger ledger = new RevenueLedger();
+		for (Booking b : bookings) {
+			ledger.add(b);
+		}
+		return ledger;
+	}
+
+	/**
+	 * 예약의 현재 매출을 장부에 더합니다.
+	 *
+	 * @param b 예약 (취소된 예약이면 환불하고 남은 금액을 더함)
+	 */
+	void add(Booking b) {
+		double amount = b.getTotalAmount();
+		if (b.getIsCancled()) {
+			amount -= amount * REFUND_RATE;
+		}
+		record(b.getGuesthouse(), b.getStartDate(), amount);
+	}
+
+	/**
+	 * 체크인 날짜가 속한 달의 매출에 금액을 더합니다.
+	 *
+	 * @param gh      게스트하우스
+	 * @param checkIn 체크인 날짜
+	 * @param amount  더할 금액 (환불이나 변경으로 줄어든 금액은 음수)
+	 */
+	void record(Guesthouse gh, LocalDate checkIn, double amount) {
+		long cents = Math.round(amount * 100);
+		if (cents == 0 || gh == null || checkIn == null) {
+			return;
+		}
+		Integer month = monthKey(checkIn.getYear(), checkIn.getMonthValue());
+		byHouse.computeIfAbsent(gh.getBookingId(), id -> new ConcurrentHashMap<>())
+				.computeIfAbsent(month, m -> new LongAdder()).add(cents);
+		total.computeIfAbsent(month, m -> new LongAdder()).add(cents);
+	}
+
+	/**
+	 * @param gh    게스트하우스 ({@code null}이면 전체 게스트하우스)
+	 * @param month 조회할 달
+	 * @return 해당 달의 매출
+	 */
+	public double getMonthlyRevenue(Guesthouse gh, YearMonth month) {
+		return sum(gh, monthKey(month.getYear(), month.getMonthValue()), 1);
+	}
+
+	/**
+	 * @param gh      게스트하우스 ({@code null}이면 전체 게스트하우스)
+	 * @param year    연도
+	 * @param quarter 분기 (1 ~ 4)
+	 * @return 해당 분기의 매출
+	 * @throws IllegalArgumentException 분기가 1 ~ 4가 아닌 경우
+	 */
+	public double getQuarterlyRevenue(Guesthouse gh, int year, int quarter) {
+		if (quarter < 1 || quarter > 4) {
+			throw new IllegalArgumentException("분기는 1 ~ 4 사이여야 합니다: " + quarter);
+		}
+		return sum(gh, monthKey(year, (quarter - 1) * 3 + 1), 3);
+	}
+
+	/**
+	 * @param gh   게스트하우스 ({@code null}이면 전체 게스트하우스)
+	 * @param year 연도
+	 * @return 해당 연도의 매출
+	 */
+	public double getYearlyRevenue(Guesthouse gh, int year) {
+		return sum(gh, monthKey(year, 1), 12);
+	}
+
+	/**
+	 * 예약 목록으로 장부를 다시 계산하여 누적된 장부와 비교합니다. 다른 칸이 있으면 출력합니다. 비교하는 동안 예약이 처리되면 다르게
+	 * 나올 수 있습니다.
+	 *
+	 * @param bookings 전체 예약 목록 (취소된 예약 포함)
+	 * @return 모든 칸이 같으면 {@code true}
+	 */
+	public boolean verify(Collection<Booking> bookings) {
+		RevenueLedger expected = recompute(bookings);
+		Set<String> houses = new HashSet<>(byHouse.keySet());
+		houses.addAll(expected.byHouse.keySet());
+
+		boolean matched = true;
+		for (String id : houses) {
+			Map<Integer, LongAdder> actualMonths = byHouse.getOrDefault(id, new ConcurrentHashMap<>());
+			Map<Integer, LongAdder> expectedMonths = expected.byHouse.getOrDefault(id, new ConcurrentHashMap<>());
+			Set<Integer> months = new HashSet<>(actualMonths.keySet());
+			months.addAll(expectedMonths.keySet());
+			for (Integer month : months) {
+				long actual = cents(actualMonths.get(month));
+				long recomputed = cents(expectedMonths.get(month));
+				if (actual != recomputed) {
+					System.out.println("매출 장부 불일치: " + id + " " + YearMonth.of(month / 12, month % 12 + 1) + " 장부="
+							+ actual / 100.0 + ", 재계산=" + recomputed / 100.0);
+					matched = false;
+				}
+			}
+		}
+		return matched;
+	}
+
+	private double sum(Guesthouse gh, int firstMonth, int months) {
+		Map<Integer, LongAdder> cells = gh == null ? total : byHouse.get(gh.getBookingId());
+		if (cells == null) {
+			return 0;
+		}
+		long cents = 0;
+		for (int m = firstMonth; m < firstMonth + months; m++) {
+			cents += cents(cells.get(m));
+		}
+		return cents / 100.0;
+	}
+
+	private static long cents(LongAdder adder) {
+		return adder == null ? 0 : adder.sum();
+	}
+
+	private static int monthKey(int year, int month) {
+		return year * 12 + month - 1;
+	}
+}
@@ -0,0 +1,73 @@
+package com.gh.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code StripedLock} 클래스는 키(게스트하우스 ID)를 해시하여 고정된 개수의 락 중 하나에 대응시키는 락 스트라이핑을 제공합니다.
+ *
+ * <p>
+ * 서로 다른 게스트하우스의 예약은 대부분 서로 다른 락을 잡으므로 전역 락 없이 병렬로 처리되고, 같은 게스트하우스의 예약은 항상
+ * 같은 락을 잡으므로 순서대로 처리됩니다. 여러 키를 한 번에 잠글 때는 락 번호 순서로 잠가 교착 상태를 피합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class StripedLock {
+	private final ReentrantLock[] stripes;
+	private final int mask;
+
+	/**
+	 * @param concurrency 최소 락 개수 (2의 거듭제곱으로 올림)
+	 */
+	public StripedLock(int concurrency) {
+		int size = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+		stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+		mask = size - 1;
+	}
+
+	/**
+	 * 키에 대응하는 락을 반환합니다.
+	 *
+	 * @param key 게스트하우스 ID
+	 * @return 대응하는 락
+	 */
+	public ReentrantLock get(String key) {
+		return stripes[indexOf(key)];
+	}
+
+	/**
+	 * 여러 키에 대응하는 락을 락 번호 순서대로 모두 잠급니다. 같은 락에 대응하는 키는 한 번만 잠급니다.
+	 *
+	 * @param keys 게스트하우스 ID 목록
+	 * @return 잠근 락 번호 목록 ({@link #unlockAll(int[])}에 그대로 전달)
+	 */
+	public int[] lockAll(String... keys) {
+		int[] indexes = Arrays.stream(keys).mapToInt(this::indexOf).sorted().distinct().toArray();
+		for (int index : indexes) {
+			stripes[index].lock();
+		}
+		return indexes;
+	}
+
+	/**
+	 * {@link #lockAll(String...)}로 잠근 락을 역순으로 해제합니다.
+	 *
+	 * @param indexes 잠근 락 번호 목록
+	 */
+	public void unlockAll(int[] indexes) {
+		for (int i = indexes.length - 1; i >= 0; i--) {
+			stripes[indexes[i]].unlock();
+		}
+	}
+
+	private int indexOf(String key) {
+		int h = key == null ? 0 : key.hashCode();
+		// 하위 비트만 쓰므로 상위 비트를 섞어 편중을 줄임
+		h ^= (h >>> 16);
+		return h & mask;
+	}
+}
@@ -0,0 +1,309 @@
+package com.gh.service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code TimingWheel} 클래스는 해시 타이밍 휠로 많은 수의 타이머를 하나의 스레드에서 처리합니다. 대기 요청 만료처럼 시간이 지나면
+ * 상태가 바뀌는 작업에 사용합니다.
+ *
+ * <p>
+ * 휠은 2의 거듭제곱 개의 칸으로 나뉘고, 타이머는 만료 틱을 칸 수로 나눈 나머지 칸에 남은 바퀴 수와 함께 들어갑니다. 전용 스레드가
+ * 틱마다 한 칸만 확인하여 남은 바퀴가 없는 타이머를 실행하고 나머지는 바퀴 수만 줄이므로, 등록과 취소는 O(1)이고 타이머마다
+ * 예약 작업을 만들지 않습니다. 만료 시각은 틱 단위로 올림되므로 최대 한 틱 늦게 실행될 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 등록과 취소는 어느 스레드에서나 할 수 있으며, 잠금 없는 큐에 넣어 두었다가 다음 틱에 휠 스레드가 반영합니다. 작업은 휠 스레드에서
+ * 실행되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 합니다. 휠 스레드(데몬)는 첫 타이머를 등록할 때 시작합니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+public class TimingWheel implements AutoCloseable {
+	/** 한 틱에 휠에 반영하는 최대 등록 수 (등록이 몰려도 만료가 밀리지 않도록) */
+	private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+	private final String name;
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+	private final AtomicLong pendingCount = new AtomicLong();
+
+	private Thread worker;
+	/** 휠 스레드를 시작했는지 여부 (등록할 때마다 락을 잡지 않도록 먼저 확인) */
+	private volatile boolean started;
+	private volatile boolean closed;
+	/** 휠 기준 시각 (System.nanoTime) */
+	private volatile long startTime;
+	/** 휠 스레드가 처리 중인 틱 (휠 스레드에서만 변경) */
+	private long tick;
+
+	/**
+	 * @param name      휠 스레드 이름
+	 * @param tick      틱 간격
+	 * @param unit      틱 간격 단위
+	 * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+	 */
+	public TimingWheel(String name, long tick, TimeUnit unit, int wheelSize) {
+		if (tick <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("틱 간격과 칸 수는 0보다 커야 합니다.");
+		}
+		this.name = name;
+		this.tickNanos = unit.toNanos(tick);
+		int size = Integer.highestOneBit(Math.min(wheelSize, 1 << 30) * 2 - 1);
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * 지정한 시간 뒤에 작업을 실행하도록 등록합니다. 0 이하이면 다음 틱에 실행합니다.
+	 *
+	 * @param task  실행할 작업 (휠 스레드에서 실행됨)
+	 * @param delay 지연 시간
+	 * @param unit  지연 시간 단위
+	 * @return 등록된 타이머 (취소에 사용)
+	 * @throws IllegalStateException 휠이 닫힌 경우
+	 */
+	public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (closed) {
+			throw new IllegalStateException("타이밍 휠이 닫혔습니다: " + name);
+		}
+		if (!started) {
+			start();
+		}
+		long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+		// 아주 먼 만료는 넘치지 않도록 제한
+		if (delay > 0 && deadline < 0) {
+			deadline = Long.MAX_VALUE;
+		}
+		Timeout timeout = new Timeout(task, deadline);
+		pendingCount.incrementAndGet();
+		pending.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * @return 실행되거나 취소되지 않은 타이머 수
+	 */
+	public long pending() {
+		return pendingCount.get();
+	}
+
+	/**
+	 * 휠 스레드를 멈춥니다. 아직 실행되지 않은 타이머는 실행되지 않습니다.
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	private synchronized void start() {
+		if (worker != null) {
+			return;
+		}
+		startTime = System.nanoTime();
+		worker = new Thread(this::run, name);
+		worker.setDaemon(true);
+		worker.start();
+		// startTime을 쓴 뒤에 표시하므로 started를 읽은 스레드는 기준 시각도 봄
+		started = true;
+	}
+
+	private void run() {
+		while (!closed) {
+			long deadline = waitForNextTick();
+			if (deadline < 0) {
+				return;
+			}
+			removeCancelled();
+			transferPending();
+			wheel[(int) (tick & mask)].expire(deadline);
+			tick++;
+		}
+	}
+
+	/**
+	 * 다음 틱 시각까지 기다립니다.
+	 *
+	 * @return 현재 틱의 끝 시각 (휠 기준), 닫혔으면 -1
+	 */
+	private long waitForNextTick() {
+		long deadline = tickNanos * (tick + 1);
+		while (true) {
+			long current = System.nanoTime() - startTime;
+			long sleepNanos = deadline - current;
+			if (sleepNanos <= 0) {
+				return current;
+			}
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			} catch (InterruptedException e) {
+				if (closed) {
+					return -1;
+				}
+			}
+		}
+	}
+
+	private void transferPending() {
+		for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = pending.poll();
+			if (timeout == null) {
+				return;
+			}
+			if (timeout.state.get() == Timeout.CANCELLED) {
+				continue;
+			}
+			long expiryTick = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+			// 이미 지난 만료는 현재 칸에 넣어 이번 틱에 실행
+			long slot = Math.max(expiryTick, tick);
+			wheel[(int) (slot & mask)].add(timeout);
+		}
+	}
+
+	private void removeCancelled() {
+		Timeout timeout;
+		while ((timeout = cancelled.poll()) != null) {
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	/**
+	 * 휠의 한 칸에 들어 있는 타이머의 이중 연결 리스트입니다. 휠 스레드에서만 사용합니다.
+	 */
+	private final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		/**
+		 * 남은 바퀴가 없고 만료 시각이 지난 타이머를 실행하고, 나머지는 바퀴 수를 줄입니다.
+		 */
+		void expire(long deadline) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0) {
+					if (timeout.deadline <= deadline) {
+						remove(timeout);
+						timeout.expire();
+					}
+				} else if (timeout.state.get() == Timeout.CANCELLED) {
+					remove(timeout);
+				} else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.bucket != this) {
+				return;
+			}
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+	}
+
+	/**
+	 * 등록된 타이머입니다.
+	 */
+	public final class Timeout {
+		private static final int WAITING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+
+		private final Runnable task;
+		/** 만료 시각 (휠 기준 나노초) */
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(WAITING);
+
+		// 휠 스레드에서만 사용
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * 아직 실행되지 않았으면 취소합니다.
+		 *
+		 * @return 취소했으면 {@code true}, 이미 실행되었거나 취소되었으면 {@code false}
+		 */
+		public boolean cancel() {
+			if (!state.compareAndSet(WAITING, CANCELLED)) {
+				return false;
+			}
+			pendingCount.decrementAndGet();
+			cancelled.add(this);
+			return true;
+		}
+
+		/**
+		 * @return 취소되었으면 {@code true}
+		 */
+		public boolean isCancelled() {
+			return state.get() == CANCELLED;
+		}
+
+		/**
+		 * @return 작업이 실행되었으면 {@code true}
+		 */
+		public boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+
+		private void expire() {
+			if (!state.compareAndSet(WAITING, EXPIRED)) {
+				return;
+			}
+			pendingCount.decrementAndGet();
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				System.out.println("[" + name + "] 타이머 작업 중 오류 발생: " + e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,289 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.gh.model.Booking;
+import com.gh.user.Customer;
+
+/**
+ * {@code WaitingList} 클래스는 예약 대기열을 게스트하우스별로 나누어 보관하고, 각 게스트하우스 안에서는 숙박 기간으로 색인합니다.
+ *
+ * <p>
+ * 각 게스트하우스의 대기 요청은 등록 순번으로 보관하고, 숙박 기간 [체크인, 체크아웃)은 구간 트리({@link BookingIntervalTree})로
+ * 색인합니다. 취소로 한 게스트하우스의 기간 [s, e)에 자리가 생기면 그 기간과 겹치는 요청만 요청 순서대로 꺼내므로, 다른
+ * 게스트하우스나 겹치지 않는 기간의 요청은 확인하지 않습니다. 구간 트리는 게스트하우스마다 처음 조회할 때 만들므로, 재시작 후 복원은
+ * 대기 요청 수에 비례하는 시간만 걸립니다.
+ * </p>
+ *
+ * <p>
+ * 대기열 로그({@link WaitlistJournal})를 지정하면 등록과 제거를 같은 락 안에서 기록하므로, 로그의 순서가 대기열에 반영된 순서와
+ * 같습니다. 대기 순번은 로그에 기록된 마지막 순번 다음부터 붙습니다.
+ * </p>
+ *
+ * <p>
+ * 모든 메소드는 이 객체로 동기화합니다. 조회 메소드는 복사본을 반환하므로, 반환된 요청으로 예약을 시도하는 동안에도 다른 스레드가 대기
+ * 요청을 등록할 수 있습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class WaitingList {
+	/** 요청 시각 순, 같으면 등록 순번 순 */
+	static final Comparator<WaitingRequest> REQUEST_ORDER = Comparator
+			.comparing(WaitingRequest::getRequestDate, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparingLong(r -> r.sequence);
+
+	/** 게스트하우스 ID → 대기 요청 */
+	private final Map<String, Partition> partitions = new HashMap<>();
+	/** 등록과 제거를 기록할 로그 ({@code null}이면 기록하지 않음) */
+	private final WaitlistJournal journal;
+	private long lastSequence;
+	private int size;
+
+	/**
+	 * 메모리에만 보관하는 대기열을 만듭니다.
+	 */
+	WaitingList() {
+		this(null);
+	}
+
+	/**
+	 * @param journal 등록과 제거를 기록할 대기열 로그 ({@code null}이면 기록하지 않음)
+	 */
+	WaitingList(WaitlistJournal journal) {
+		this.journal = journal;
+	}
+
+	/**
+	 * 예약 요청을 대기 기한 없이 대기열에 등록합니다.
+	 *
+	 * @param c               고객 객체
+	 * @param b               예약 정보 객체 (체크아웃 날짜가 설정되어 있어야 함)
+	 * @param requestDateTime 요청한 날짜 및 시간 (우선순위 기준)
+	 * @return 등록된 대기 요청
+	 */
+	WaitingRequest add(Customer c, Booking b, LocalDateTime requestDateTime) {
+		return add(c, b, requestDateTime, null, null);
+	}
+
+	/**
+	 * 예약 요청을 대기열에 등록합니다.
+	 *
+	 * @param c               고객 객체
+	 * @param b               예약 정보 객체 (체크아웃 날짜가 설정되어 있어야 함)
+	 * @param requestDateTime 요청한 날짜 및 시간 (우선순위 기준)
+	 * @param deadline        고객이 정한 대기 기한 (없으면 {@code null})
+	 * @param onAdded         등록과 같은 락 안에서 실행할 작업 (없으면 {@code null}). 다른 스레드는 이 작업이 끝난 뒤에야 요청을
+	 *                        조회하거나 제거할 수 있음
+	 * @return 등록된 대기 요청
+	 */
+	synchronized WaitingRequest add(Customer c, Booking b, LocalDateTime requestDateTime, LocalDateTime deadline,
+			Consumer<WaitingRequest> onAdded) {
+		if (journal != null) {
+			// 복원하지 않은 기록과 순번이 겹치지 않도록
+			lastSequence = Math.max(lastSequence, journal.getLastSequence());
+		}
+		WaitingRequest request = new WaitingRequest(c, b, requestDateTime, ++lastSequence, deadline);
+		partitions.computeIfAbsent(guesthouseId(b), id -> new Partition()).add(request);
+		size++;
+		if (journal != null) {
+			journal.added(request);
+		}
+		if (onAdded != null) {
+			onAdded.accept(request);
+		}
+		return request;
+	}
+
+	/**
+	 * 대기열 로그에서 읽은 대기 요청을 로그에 다시 기록하지 않고 넣습니다. 같은 순번이 이미 있는 요청은 넣지 않습니다. 아직 대기
+	 * 요청이 없던 게스트하우스는 게스트하우스마다 다른 스레드에서 한 번에 넣고, 숙박 기간 색인은 처음 조회할 때 만듭니다.
+	 *
+	 * @param requests 복원할 대기 요청
+	 * @return 실제로 넣은 요청
+	 */
+	synchronized List<WaitingRequest> restoreAll(Collection<WaitingRequest> requests) {
+		Map<String, List<WaitingRequest>> byHouse = new HashMap<>();
+		for (WaitingRequest request : requests) {
+			lastSequence = Math.max(lastSequence, request.sequence);
+			byHouse.computeIfAbsent(guesthouseId(request.booking), id -> new ArrayList<>()).add(request);
+		}
+
+		Map<String, Partition> built = new ConcurrentHashMap<>();
+		byHouse.entrySet().parallelStream().filter(e -> !partitions.containsKey(e.getKey()))
+				.forEach(e -> built.put(e.getKey(), Partition.of(e.getValue())));
+
+		List<WaitingRequest> restored = new ArrayList<>();
+		for (Map.Entry<String, List<WaitingRequest>> e : byHouse.entrySet()) {
+			Partition partition = built.get(e.getKey());
+			if (partition != null) {
+				partitions.put(e.getKey(), partition);
+				restored.addAll(partition.requests());
+				continue;
+			}
+			partition = partitions.get(e.getKey());
+			for (WaitingRequest request : e.getValue()) {
+				if (partition.add(request)) {
+					restored.add(request);
+				}
+			}
+		}
+		size += restored.size();
+		return restored;
+	}
+
+	/**
+	 * 대기 요청을 대기열에서 제거합니다.
+	 *
+	 * @param request 제거할 대기 요청
+	 * @return 대기열에 있어서 제거했으면 {@code true}
+	 */
+	synchronized boolean remove(WaitingRequest request) {
+		String id = guesthouseId(request.booking);
+		Partition partition = partitions.get(id);
+		if (partition == null || !partition.remove(request)) {
+			return false;
+		}
+		if (partition.isEmpty()) {
+			partitions.remove(id);
+		}
+		size--;
+		if (journal != null) {
+			journal.removed(request);
+		}
+		return true;
+	}
+
+	/**
+	 * 게스트하우스의 [start, end) 기간과 하루라도 겹치는 대기 요청을 요청 순서대로 반환합니다.
+	 *
+	 * @param guesthouseId 게스트하우스 ID
+	 * @param start        기간 시작일
+	 * @param end          기간 종료일 (미포함)
+	 * @return 대기 요청 목록의 복사본
+	 */
+	synchronized List<WaitingRequest> findOverlapping(String guesthouseId, LocalDate start, LocalDate end) {
+		Partition partition = partitions.get(guesthouseId);
+		if (partition == null) {
+			return new ArrayList<>();
+		}
+		return partition.findOverlapping(start.toEpochDay(), end.toEpochDay());
+	}
+
+	/**
+	 * @return 모든 대기 요청을 요청 순서대로 담은 목록의 복사본
+	 */
+	synchronized List<WaitingRequest> snapshot() {
+		List<WaitingRequest> all = new ArrayList<>(size);
+		for (Partition partition : partitions.values()) {
+			all.addAll(partition.requests());
+		}
+		all.sort(REQUEST_ORDER);
+		return all;
+	}
+
+	/**
+	 * @return 대기 요청 수
+	 */
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * @return 대기 요청이 없으면 {@code true}
+	 */
+	synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	private static String guesthouseId(Booking b) {
+		return b.getGuesthouse().getBookingId();
+	}
+
+	/**
+	 * 게스트하우스 하나의 대기 요청입니다.
+	 */
+	private static final class Partition {
+		/** 등록 순번 → 대기 요청 */
+		private final Map<Long, WaitingRequest> bySequence = new HashMap<>();
+		/**
+		 * 숙박 기간 색인 (키는 등록 순번, 예약 ID는 자동 예약 시 바뀔 수 있음). 복원 시간을 줄이기 위해 처음 조회할 때 한 번에 만들고,
+		 * 그 뒤로는 등록과 제거를 함께 반영함
+		 */
+		private BookingIntervalTree stays;
+
+		/**
+		 * 대기 요청들로 새 파티션을 만듭니다. 같은 순번이 여러 번 있으면 처음 것만 넣습니다.
+		 */
+		static Partition of(List<WaitingRequest> requests) {
+			Partition partition = new Partition();
+			for (WaitingRequest request : requests) {
+				partition.bySequence.putIfAbsent(request.sequence, request);
+			}
+			return partition;
+		}
+
+		boolean add(WaitingRequest request) {
+			if (bySequence.putIfAbsent(request.sequence, request) != null) {
+				return false;
+			}
+			if (stays != null) {
+				stays.add(Long.toString(request.sequence), request.booking);
+			}
+			return true;
+		}
+
+		boolean remove(WaitingRequest request) {
+			if (bySequence.remove(request.sequence) == null) {
+				return false;
+			}
+			if (stays != null) {
+				stays.remove(Long.toString(request.sequence));
+			}
+			return true;
+		}
+
+		List<WaitingRequest> findOverlapping(long startDay, long endDay) {
+			List<String> keys = new ArrayList<>();
+			stays().findOverlappingIds(startDay, endDay, keys);
+			List<WaitingRequest> found = new ArrayList<>(keys.size());
+			for (String key : keys) {
+				found.add(bySequence.get(Long.parseLong(key)));
+			}
+			// 구간 트리는 체크인 순서이므로 요청 순서로 다시 정렬
+			found.sort(REQUEST_ORDER);
+			return found;
+		}
+
+		Collection<WaitingRequest> requests() {
+			return bySequence.values();
+		}
+
+		boolean isEmpty() {
+			return bySequence.isEmpty();
+		}
+
+		private BookingIntervalTree stays() {
+			if (stays == null) {
+				List<String> keys = new ArrayList<>(bySequence.size());
+				List<Booking> bookings = new ArrayList<>(bySequence.size());
+				for (WaitingRequest request : bySequence.values()) {
+					keys.add(Long.toString(request.sequence));
+					bookings.add(request.booking);
+				}
+				stays = new BookingIntervalTree();
+				stays.addAll(keys, bookings);
+			}
+			return stays;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.gh.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.gh.model.Booking;
+import com.gh.user.Customer;
+
+/**
+ * {@code WaitingRequest} 클래스는 수용 인원 초과로 예약 대기열({@link WaitingList})에 등록된 예약 요청 하나를 나타냅니다.
+ *
+ * <p>
+ * 요청 시각이 같으면 대기열에 등록된 순번으로 순서를 정합니다. 대기 요청은 체크인 날짜가 시작될 때, 또는 고객이 정한 기한이 더
+ * 이르면 그때 만료됩니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class WaitingRequest {
+	Customer customer;
+	Booking booking;
+	LocalDateTime requestDateTime;
+	/** 대기열 등록 순번 (요청 시각이 같을 때의 순서) */
+	final long sequence;
+	/** 고객이 정한 대기 기한 (없으면 {@code null}) */
+	final LocalDateTime deadline;
+	/** 만료 타이머 (등록 전에는 {@code null}) */
+	volatile TimingWheel.Timeout expiry;
+
+	public WaitingRequest(Customer customer, Booking booking, LocalDateTime requestDateTime, long sequence) {
+		this(customer, booking, requestDateTime, sequence, null);
+	}
+
+	public WaitingRequest(Customer customer, Booking booking, LocalDateTime requestDateTime, long sequence,
+			LocalDateTime deadline) {
+		this.customer = customer;
+		this.booking = booking;
+		this.requestDateTime = requestDateTime;
+		this.sequence = sequence;
+		this.deadline = deadline;
+	}
+
+	public LocalDateTime getRequestDate() {
+		return requestDateTime;
+	}
+
+	/**
+	 * @return 만료 시각 (체크인 날짜의 시작과 고객이 정한 기한 중 이른 쪽)
+	 */
+	public LocalDateTime getExpiresAt() {
+		LocalDateTime checkIn = booking.getStartDate().atStartOfDay();
+		return deadline != null && deadline.isBefore(checkIn) ? deadline : checkIn;
+	}
+
+	@Override
+	// 디버깅용, 추후 대기열 리스트 출력 가능 (리팩토링 전 코드)
+//	public String toString() {
+//		return "예약 대기열 : [고객=" + customer.getName() + ", 요청일=" + requestDateTime + ", 인원="
+//				+ booking.getNumberOfPeople() + "]";
+//	}
+
+	// Optional로 null-safe 리팩토링 진행 후 코드
+	public String toString() {
+		String customerName = Optional.ofNullable(customer).map(Customer::getName).orElse("'고객정보 없음'");
+
+		String numberOfPeople = Optional.ofNullable(booking).map(Booking::getNumberOfPeople) // int
+				.map(String::valueOf) // String
+				.orElse("'인원 정보 없음'");
+
+		String rqTime = Optional.ofNullable(requestDateTime).map(String::valueOf).orElse("'시간 정보 없음'");
+
+		return "예약 대기열 : [고객=" + customerName + ", 요청일=" + rqTime + ", 인원=" + numberOfPeople + "]";
+	}
+}
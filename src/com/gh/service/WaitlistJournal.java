@@ -0,0 +1,411 @@
+package com.gh.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.gh.model.Booking;
+
+/**
+ * {@code WaitlistJournal} 클래스는 예약 대기열의 등록과 제거를 예약 파티션 디렉터리의 바이너리 로그
+ * 파일({@value #FILE_NAME})에 이어 쓰고, 시작할 때 한 번 읽어 남아 있는 대기 요청을 복원합니다.
+ *
+ * <p>
+ * 파일은 머리부({@link #MAGIC}) 뒤에 레코드가 이어지며, 레코드는 길이(int), CRC32(int), 내용 순서입니다. 내용의 첫 바이트가
+ * 종류이고, 등록 레코드는 대기 순번, 요청 시각, 체크인/체크아웃(epoch day), 숙박일수, 인원 수, 예약 ID, 게스트하우스 ID, 고객
+ * 이메일, 고객이 정한 대기 기한(있을 때만)을, 제거 레코드는 대기 순번만 가집니다. 읽을 때는 파일을 한 번 훑으며 순번별로 등록을 모으고 제거된 순번을 지우므로, 수십만
+ * 건도 문자열 파싱 없이 한 번에 복원됩니다. 기록 도중 잘린 마지막 레코드는 잘라내고, 제거된 레코드가 남은 레코드보다 많으면 남은 등록만
+ * 새 파일에 옮겨 적습니다.
+ * </p>
+ *
+ * <p>
+ * 기록은 운영체제에 넘기기만 하고 디스크에 강제로 반영하지 않습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class WaitlistJournal {
+	/** 대기열 로그 파일 이름 */
+	static final String FILE_NAME = "waitlist.log";
+	/** 파일 시작 표시 ("GHW1") */
+	static final int MAGIC = 0x47485731;
+
+	private static final byte ADDED = 1;
+	private static final byte REMOVED = 2;
+	/** 레코드 길이와 CRC32 */
+	private static final int FRAME_BYTES = 8;
+	/** 이 크기보다 작은 파일은 정리하지 않음 */
+	private static final long COMPACT_MIN_BYTES = 64 * 1024;
+
+	private final Path file;
+	private DataOutputStream out;
+	/** 파일에 기록된 가장 큰 대기 순번 (파일을 읽기 전에는 -1) */
+	private long lastSequence = -1;
+	private final CRC32 crc = new CRC32();
+
+	/**
+	 * 파일은 처음 사용할 때 엽니다.
+	 *
+	 * @param file 대기열 로그 파일
+	 */
+	WaitlistJournal(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * @return 기본 위치({@code bookings/}{@value #FILE_NAME})의 대기열 로그
+	 */
+	static WaitlistJournal createDefault() {
+		return new WaitlistJournal(new File(BookingPartition.ROOT, FILE_NAME).toPath());
+	}
+
+	/**
+	 * 대기 요청 등록을 기록합니다.
+	 *
+	 * @param request 등록된 대기 요청
+	 */
+	synchronized void added(WaitingRequest request) {
+		Booking b = request.booking;
+		Entry entry = new Entry(request.sequence, request.requestDateTime, b.getBookingId(),
+				b.getStartDate().toEpochDay(), b.getEndDate().toEpochDay(), b.getBookingDays(), b.getNumberOfPeople(),
+				b.getGuesthouse().getBookingId(), request.customer == null ? null : request.customer.getEmail(),
+				request.deadline);
+		append(entry.encode(), request.sequence);
+	}
+
+	/**
+	 * 대기 요청 제거(자동 예약 등)를 기록합니다.
+	 *
+	 * @param request 제거된 대기 요청
+	 */
+	synchronized void removed(WaitingRequest request) {
+		append(ByteBuffer.allocate(9).put(REMOVED).putLong(request.sequence).array(), request.sequence);
+	}
+
+	/**
+	 * @return 파일에 기록된 가장 큰 대기 순번 (기록이 없으면 0)
+	 */
+	synchronized long getLastSequence() {
+		try {
+			open();
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 열기 오류: " + e.getMessage());
+		}
+		return Math.max(lastSequence, 0);
+	}
+
+	/**
+	 * 파일을 한 번 읽어 제거되지 않은 대기 요청을 기록된 순서대로 반환합니다. 제거된 레코드가 많으면 파일을 정리합니다.
+	 *
+	 * @return 남아 있는 대기 요청 (파일이 없으면 빈 목록)
+	 */
+	synchronized List<Entry> recover() {
+		Map<Long, Entry> live = new LinkedHashMap<>();
+		long validBytes;
+		int records;
+		try {
+			closeWriter();
+			if (!Files.exists(file)) {
+				lastSequence = Math.max(lastSequence, 0);
+				return new ArrayList<>();
+			}
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+			Scan scan = scan(buf, live);
+			validBytes = scan.validBytes;
+			records = scan.records;
+			lastSequence = Math.max(lastSequence, scan.lastSequence);
+			if (validBytes < buf.capacity()) {
+				truncate(validBytes);
+			}
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 읽기 오류: " + e.getMessage());
+			return new ArrayList<>();
+		}
+
+		if (records - live.size() > live.size() && validBytes >= COMPACT_MIN_BYTES) {
+			compact(live.values());
+		}
+		return new ArrayList<>(live.values());
+	}
+
+	/**
+	 * 쓰기 파일을 닫습니다. 다음 기록 때 다시 엽니다.
+	 */
+	synchronized void close() {
+		try {
+			closeWriter();
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 닫기 오류: " + e.getMessage());
+		}
+	}
+
+	private void append(byte[] record, long sequence) {
+		try {
+			open();
+			writeFrame(out, record);
+			out.flush();
+			lastSequence = Math.max(lastSequence, sequence);
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 기록 중 오류 발생: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 파일을 처음 사용할 때 마지막 순번을 찾고, 잘린 마지막 레코드를 잘라낸 뒤 이어 쓰기로 엽니다. 머리부까지 잘린 파일은 새로
+	 * 씁니다.
+	 */
+	private void open() throws IOException {
+		if (out != null) {
+			return;
+		}
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		boolean isNew = !Files.exists(file) || Files.size(file) == 0;
+		// 복원할 때 이미 읽고 정리한 파일은 다시 읽지 않음
+		if (!isNew && lastSequence < 0) {
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+			Scan scan = scan(buf, null);
+			lastSequence = Math.max(lastSequence, scan.lastSequence);
+			if (scan.validBytes < buf.capacity()) {
+				truncate(scan.validBytes);
+			}
+			isNew = scan.validBytes == 0;
+		}
+
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile(), !isNew)));
+		if (isNew) {
+			out.writeInt(MAGIC);
+			out.flush();
+		}
+		lastSequence = Math.max(lastSequence, 0);
+	}
+
+	private void closeWriter() throws IOException {
+		if (out != null) {
+			DataOutputStream closing = out;
+			out = null;
+			closing.close();
+		}
+	}
+
+	/**
+	 * 파일 내용을 처음부터 읽습니다. {@code live}가 있으면 남아 있는 등록을 모읍니다.
+	 *
+	 * @throws IOException 대기열 로그 형식이 아닌 경우
+	 */
+	private Scan scan(ByteBuffer buf, Map<Long, Entry> live) throws IOException {
+		Scan scan = new Scan();
+		if (buf.remaining() < 4) {
+			return scan;
+		}
+		if (buf.getInt() != MAGIC) {
+			throw new IOException("대기열 로그 형식이 아닙니다: " + file);
+		}
+		scan.validBytes = buf.position();
+		// 같은 게스트하우스 ID, 이메일은 하나의 문자열로 공유
+		Map<String, String> strings = new HashMap<>();
+
+		while (buf.remaining() >= FRAME_BYTES) {
+			int length = buf.getInt();
+			int checksum = buf.getInt();
+			if (length <= 0 || length > buf.remaining()) {
+				break;
+			}
+			crc.reset();
+			crc.update(buf.array(), buf.position(), length);
+			if ((int) crc.getValue() != checksum) {
+				break;
+			}
+			int next = buf.position() + length;
+			byte type = buf.get();
+			long sequence = buf.getLong();
+			if (type == ADDED) {
+				if (live != null) {
+					live.put(sequence, readEntry(buf, next, sequence, strings));
+				}
+			} else if (live != null) {
+				live.remove(sequence);
+			}
+			buf.position(next);
+			scan.lastSequence = Math.max(scan.lastSequence, sequence);
+			scan.records++;
+			scan.validBytes = next;
+		}
+		return scan;
+	}
+
+	private static Entry readEntry(ByteBuffer buf, int end, long sequence, Map<String, String> strings) {
+		boolean hasTime = buf.get() == 1;
+		long epochSecond = buf.getLong();
+		int nano = buf.getInt();
+		LocalDateTime requested = hasTime ? LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC) : null;
+		long startDay = buf.getInt();
+		long endDay = buf.getInt();
+		int bookingDays = buf.getShort();
+		int numberOfPeople = buf.getShort();
+		String bookingId = readString(buf, null);
+		String guesthouseId = readString(buf, strings);
+		String email = readString(buf, strings);
+		// 대기 기한은 기한이 있는 레코드에만 기록됨
+		LocalDateTime deadline = null;
+		if (end - buf.position() >= 12) {
+			deadline = LocalDateTime.ofEpochSecond(buf.getLong(), buf.getInt(), ZoneOffset.UTC);
+		}
+		return new Entry(sequence, requested, bookingId, startDay, endDay, bookingDays, numberOfPeople, guesthouseId,
+				email, deadline);
+	}
+
+	/**
+	 * 남은 등록만 임시 파일에 기록하고 디스크에 반영한 뒤 이름을 바꿉니다.
+	 */
+	private void compact(Iterable<Entry> live) {
+		File tmp = new File(file + ".tmp");
+		try (FileOutputStream fos = new FileOutputStream(tmp);
+				DataOutputStream tmpOut = new DataOutputStream(new BufferedOutputStream(fos))) {
+			tmpOut.writeInt(MAGIC);
+			for (Entry e : live) {
+				writeFrame(tmpOut, e.encode());
+			}
+			tmpOut.flush();
+			fos.getChannel().force(false);
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 정리 중 오류 발생: " + e.getMessage());
+			tmp.delete();
+			return;
+		}
+		try {
+			Files.move(tmp.toPath(), file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			System.out.println("[" + file + "] 대기열 로그 정리 중 오류 발생: " + e.getMessage());
+		}
+	}
+
+	private void writeFrame(DataOutputStream target, byte[] record) throws IOException {
+		crc.reset();
+		crc.update(record, 0, record.length);
+		target.writeInt(record.length);
+		target.writeInt((int) crc.getValue());
+		target.write(record);
+	}
+
+	private void truncate(long size) throws IOException {
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			ch.truncate(size);
+		}
+	}
+
+	private static void putString(ByteBuffer buf, byte[] s) {
+		// 문자열이 없으면 길이를 -1로 기록
+		buf.putShort((short) (s == null ? -1 : s.length));
+		if (s != null) {
+			buf.put(s);
+		}
+	}
+
+	private static String readString(ByteBuffer buf, Map<String, String> strings) {
+		short length = buf.getShort();
+		if (length < 0) {
+			return null;
+		}
+		String s = new String(buf.array(), buf.position(), length, StandardCharsets.UTF_8);
+		buf.position(buf.position() + length);
+		return strings == null ? s : strings.computeIfAbsent(s, k -> k);
+	}
+
+	private static int length(byte[] s) {
+		return s == null ? 0 : s.length;
+	}
+
+	private static byte[] utf8(String s) {
+		return s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static short toShort(int value) {
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("short 범위를 넘는 값입니다: " + value);
+		}
+		return (short) value;
+	}
+
+	private static final class Scan {
+		private long validBytes;
+		private int records;
+		private long lastSequence;
+	}
+
+	/**
+	 * 대기열 로그에 남아 있는 대기 요청입니다. 게스트하우스와 고객은 ID와 이메일로만 가지고 있습니다.
+	 */
+	static final class Entry {
+		final long sequence;
+		final LocalDateTime requestDateTime;
+		final String bookingId;
+		final long startDay;
+		final long endDay;
+		final int bookingDays;
+		final int numberOfPeople;
+		final String guesthouseId;
+		final String customerEmail;
+		final LocalDateTime deadline;
+
+		Entry(long sequence, LocalDateTime requestDateTime, String bookingId, long startDay, long endDay,
+				int bookingDays, int numberOfPeople, String guesthouseId, String customerEmail, LocalDateTime deadline) {
+			this.sequence = sequence;
+			this.requestDateTime = requestDateTime;
+			this.bookingId = bookingId;
+			this.startDay = startDay;
+			this.endDay = endDay;
+			this.bookingDays = bookingDays;
+			this.numberOfPeople = numberOfPeople;
+			this.guesthouseId = guesthouseId;
+			this.customerEmail = customerEmail;
+			this.deadline = deadline;
+		}
+
+		LocalDate getStartDate() {
+			return LocalDate.ofEpochDay(startDay);
+		}
+
+		LocalDate getEndDate() {
+			return LocalDate.ofEpochDay(endDay);
+		}
+
+		private byte[] encode() {
+			byte[] id = utf8(bookingId);
+			byte[] gh = utf8(guesthouseId);
+			byte[] email = utf8(customerEmail);
+			ByteBuffer buf = ByteBuffer.allocate(1 + 8 + 1 + 8 + 4 + 4 + 4 + 2 + 2 + 2 + length(id) + 2 + length(gh)
+					+ 2 + length(email) + (deadline == null ? 0 : 12));
+			buf.put(ADDED).putLong(sequence);
+			buf.put((byte) (requestDateTime == null ? 0 : 1));
+			buf.putLong(requestDateTime == null ? 0 : requestDateTime.toEpochSecond(ZoneOffset.UTC));
+			buf.putInt(requestDateTime == null ? 0 : requestDateTime.getNano());
+			buf.putInt((int) startDay).putInt((int) endDay);
+			buf.putShort(toShort(bookingDays)).putShort(toShort(numberOfPeople));
+			putString(buf, id);
+			putString(buf, gh);
+			putString(buf, email);
+			if (deadline != null) {
+				buf.putLong(deadline.toEpochSecond(ZoneOffset.UTC)).putInt(deadline.getNano());
+			}
+			return buf.array();
+		}
+	}
+}
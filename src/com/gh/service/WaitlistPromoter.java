@@ -0,0 +1,273 @@
+package com.gh.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gh.model.Booking;
+import com.gh.model.Guesthouse;
+
+/**
+ * {@code WaitlistPromoter} 클래스는 한 게스트하우스의 대기 요청 중 지금 남은 자리에 자동 예약할 요청을
+ * {@link PromotionPolicy}에 따라 고릅니다.
+ *
+ * <p>
+ * 후보 요청들이 걸친 날짜의 남은 자리(최대 수용 인원 - 투숙 인원)를 한 번 읽은 뒤 그 배열 위에서 계획하므로, 계획 중에는 게스트하우스를
+ * 바꾸지 않습니다. 실제 예약은 호출하는 쪽에서 고른 순서대로 시도하며, 그 사이 다른 예약이 자리를 가져가면 해당 요청은 대기열에
+ * 남습니다.
+ * </p>
+ *
+ * <p>
+ * {@link PromotionPolicy#MAX_UTILIZATION}은 날짜마다 수용 인원 제약이 있는 0-1 배낭 문제이므로 분기 한정법으로 풉니다.
+ * 비교 대상은 공정성 기간 안의 요청 {@value #MAX_OPTIMIZED}건까지이고, 탐색 노드가 {@value #MAX_NODES}개를 넘으면 그때까지
+ * 찾은 가장 좋은 조합을 사용합니다. 시작 조합은 요청 순서대로 채운 결과이므로 채워지는 자리가 그보다 줄지 않습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class WaitlistPromoter {
+	/** 최적화에서 한 번에 비교하는 최대 요청 수 */
+	static final int MAX_OPTIMIZED = 24;
+	/** 최적화 탐색 노드 상한 */
+	static final int MAX_NODES = 200_000;
+
+	private WaitlistPromoter() {
+	}
+
+	/**
+	 * 자동 예약할 요청을 고릅니다.
+	 *
+	 * @param gh             후보 요청들의 게스트하우스
+	 * @param candidates     같은 게스트하우스의 대기 요청 (요청 순서)
+	 * @param policy         자동 예약 방식
+	 * @param fairnessWindow {@link PromotionPolicy#MAX_UTILIZATION}에서 가장 오래된 요청 이후로 순서를 바꿔도 되는 기간
+	 * @return 예약할 요청 (요청 순서)
+	 */
+	static List<WaitingRequest> select(Guesthouse gh, List<WaitingRequest> candidates, PromotionPolicy policy,
+			Duration fairnessWindow) {
+		List<WaitingRequest> selected = new ArrayList<>();
+		if (candidates.isEmpty()) {
+			return selected;
+		}
+		Plan plan = new Plan(gh, candidates);
+
+		switch (policy) {
+		case STRICT_FIFO:
+			for (int i = 0; i < plan.size; i++) {
+				if (!plan.fits(i)) {
+					break;
+				}
+				plan.take(i);
+			}
+			break;
+		case MAX_UTILIZATION:
+			plan.optimize(candidates, fairnessWindow);
+			plan.backfill();
+			break;
+		default:
+			plan.backfill();
+			break;
+		}
+
+		for (int i = 0; i < plan.size; i++) {
+			if (plan.taken[i]) {
+				selected.add(candidates.get(i));
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * 후보 요청과 남은 자리 배열입니다. 날짜는 가장 이른 체크인으로부터의 일수입니다.
+	 */
+	private static final class Plan {
+		private final int size;
+		private final int[] start;
+		private final int[] end;
+		private final int[] people;
+		/** 인원×숙박일 */
+		private final long[] value;
+		private final int[] free;
+		private final boolean[] taken;
+
+		// 최적화 탐색 상태
+		private int[] window;
+		private long[] suffix;
+		private boolean[] current;
+		private boolean[] best;
+		private long bestValue;
+		private long freeLeft;
+		private int nodes;
+
+		Plan(Guesthouse gh, List<WaitingRequest> candidates) {
+			size = candidates.size();
+			start = new int[size];
+			end = new int[size];
+			people = new int[size];
+			value = new long[size];
+			taken = new boolean[size];
+
+			long base = Long.MAX_VALUE;
+			long last = Long.MIN_VALUE;
+			for (WaitingRequest req : candidates) {
+				base = Math.min(base, req.booking.getStartDate().toEpochDay());
+				last = Math.max(last, req.booking.getEndDate().toEpochDay());
+			}
+			for (int i = 0; i < size; i++) {
+				Booking b = candidates.get(i).booking;
+				start[i] = (int) (b.getStartDate().toEpochDay() - base);
+				end[i] = (int) Math.max(start[i], b.getEndDate().toEpochDay() - base);
+				people[i] = b.getNumberOfPeople();
+				value[i] = (long) people[i] * (end[i] - start[i]);
+			}
+
+			// 후보가 걸친 날짜만 읽음
+			free = new int[(int) Math.max(0, last - base)];
+			boolean[] covered = new boolean[free.length];
+			for (int i = 0; i < size; i++) {
+				for (int d = start[i]; d < end[i]; d++) {
+					covered[d] = true;
+				}
+			}
+			for (int d = 0; d < free.length; d++) {
+				if (covered[d]) {
+					free[d] = gh.getMaxPeople() - gh.getOccupancy(LocalDate.ofEpochDay(base + d));
+				}
+			}
+		}
+
+		boolean fits(int i) {
+			for (int d = start[i]; d < end[i]; d++) {
+				if (free[d] < people[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		void take(int i) {
+			for (int d = start[i]; d < end[i]; d++) {
+				free[d] -= people[i];
+			}
+			taken[i] = true;
+		}
+
+		void release(int i) {
+			for (int d = start[i]; d < end[i]; d++) {
+				free[d] += people[i];
+			}
+			taken[i] = false;
+		}
+
+		/**
+		 * 아직 고르지 않은 요청 중 들어갈 수 있는 요청을 요청 순서대로 채웁니다.
+		 */
+		void backfill() {
+			for (int i = 0; i < size; i++) {
+				if (!taken[i] && fits(i)) {
+					take(i);
+				}
+			}
+		}
+
+		/**
+		 * 공정성 기간 안의 요청 중 채워지는 인원×숙박일이 가장 많은 조합을 고릅니다.
+		 */
+		void optimize(List<WaitingRequest> candidates, Duration fairnessWindow) {
+			// 지금 들어갈 수 있는 가장 오래된 요청부터 공정성 기간까지
+			List<Integer> chosen = new ArrayList<>();
+			LocalDateTime limit = null;
+			for (int i = 0; i < size && chosen.size() < MAX_OPTIMIZED; i++) {
+				if (!fits(i)) {
+					continue;
+				}
+				LocalDateTime requested = candidates.get(i).getRequestDate();
+				if (chosen.isEmpty()) {
+					limit = requested == null ? null : requested.plus(fairnessWindow);
+				} else if (limit != null && (requested == null || requested.isAfter(limit))) {
+					break;
+				}
+				chosen.add(i);
+			}
+			if (chosen.size() < 2) {
+				return;
+			}
+
+			int n = chosen.size();
+			window = new int[n];
+			suffix = new long[n + 1];
+			for (int k = 0; k < n; k++) {
+				window[k] = chosen.get(k);
+			}
+			for (int k = n - 1; k >= 0; k--) {
+				suffix[k] = suffix[k + 1] + value[window[k]];
+			}
+			// 후보들이 걸친 날짜의 남은 자리 합 (채울 수 있는 인원×숙박일의 상한)
+			boolean[] covered = new boolean[free.length];
+			for (int i : window) {
+				for (int d = start[i]; d < end[i]; d++) {
+					covered[d] = true;
+				}
+			}
+			for (int d = 0; d < free.length; d++) {
+				if (covered[d]) {
+					freeLeft += free[d];
+				}
+			}
+
+			// 요청 순서대로 채운 결과에서 시작
+			current = new boolean[n];
+			best = new boolean[n];
+			for (int k = 0; k < n; k++) {
+				if (fits(window[k])) {
+					take(window[k]);
+					best[k] = true;
+					bestValue += value[window[k]];
+				}
+			}
+			for (int k = 0; k < n; k++) {
+				if (best[k]) {
+					release(window[k]);
+				}
+			}
+
+			search(0, 0);
+
+			for (int k = 0; k < n; k++) {
+				if (best[k]) {
+					take(window[k]);
+				}
+			}
+		}
+
+		/**
+		 * 앞 요청을 넣는 경우를 먼저 탐색하므로, 합이 같은 조합 중에서는 먼저 요청한 쪽이 남습니다.
+		 */
+		private void search(int k, long total) {
+			if (total > bestValue) {
+				bestValue = total;
+				System.arraycopy(current, 0, best, 0, current.length);
+			}
+			if (k == window.length || ++nodes > MAX_NODES) {
+				return;
+			}
+			if (total + Math.min(suffix[k], freeLeft) <= bestValue) {
+				return;
+			}
+
+			int i = window[k];
+			if (fits(i)) {
+				take(i);
+				current[k] = true;
+				freeLeft -= value[i];
+				search(k + 1, total + value[i]);
+				freeLeft += value[i];
+				current[k] = false;
+				release(i);
+			}
+			search(k + 1, total);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.gh.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.gh.model.Guesthouse;
+
+/**
+ * {@code WaitlistWorker} 클래스는 취소 등으로 자리가 생겼다는 알림(게스트하우스, 기간)을 받아 전용 스레드에서 대기열 자동 예약을
+ * 처리합니다.
+ *
+ * <p>
+ * 알림은 게스트하우스별로 모아 두었다가 스레드가 한 번에 가져가며, 같은 게스트하우스의 겹치거나 이어진 기간은 하나로 합칩니다. 한
+ * 숙소에 취소가 몰려도 자동 예약은 합친 기간마다 한 번씩만 실행되고, 취소하는 쪽은 알림만 넣고 바로 반환하므로 대기열 길이와 관계없이
+ * 취소 처리 시간이 일정합니다.
+ * </p>
+ *
+ * <p>
+ * 대기 기한이 지난 요청의 제거도 같은 스레드에서 처리합니다. 타이머 스레드는 만료 알림만 넣고 바로 돌아가므로 대기열 락이나 파일
+ * 기록을 기다리지 않고, 한 번에 가져간 알림 중 만료를 먼저 처리하므로 기한이 지난 요청이 자동 예약되지 않습니다.
+ * </p>
+ *
+ * @author 소유나, 우승환, 양준용
+ */
+class WaitlistWorker {
+
+	/**
+	 * 자리가 생긴 기간의 대기 요청을 자동 예약하는 작업입니다.
+	 */
+	interface Handler {
+		/**
+		 * @param gh    자리가 생긴 게스트하우스
+		 * @param start 기간 시작일
+		 * @param end   기간 종료일 (미포함)
+		 */
+		void promote(Guesthouse gh, LocalDate start, LocalDate end);
+	}
+
+	private final Handler handler;
+	private final Consumer<WaitingRequest> expirer;
+	private final Object lock = new Object();
+	/** 게스트하우스 → 처리할 기간 [시작, 종료) epoch day (알림이 들어온 게스트하우스 순서) */
+	private Map<Guesthouse, List<long[]>> pending = new LinkedHashMap<>();
+	/** 대기 기한이 지난 요청 (알림이 들어온 순서) */
+	private List<WaitingRequest> expired = new ArrayList<>();
+	/** 스레드가 가져간 알림을 처리 중인지 여부 */
+	private boolean busy;
+	private long received;
+	private long processed;
+	private long expiredCount;
+
+	/**
+	 * 처리 스레드(데몬)를 시작합니다.
+	 *
+	 * @param handler 자동 예약 작업 (처리 스레드에서 호출됨)
+	 * @param expirer 대기 기한이 지난 요청을 제거하는 작업 (처리 스레드에서 호출됨)
+	 */
+	WaitlistWorker(Handler handler, Consumer<WaitingRequest> expirer) {
+		this.handler = handler;
+		this.expirer = expirer;
+		Thread worker = new Thread(this::run, "waitlist-worker");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * 자리가 생겼다는 알림을 넣고 바로 반환합니다.
+	 *
+	 * @param gh    자리가 생긴 게스트하우스
+	 * @param start 기간 시작일
+	 * @param end   기간 종료일 (미포함)
+	 */
+	void capacityFreed(Guesthouse gh, LocalDate start, LocalDate end) {
+		if (!start.isBefore(end)) {
+			return;
+		}
+		synchronized (lock) {
+			pending.computeIfAbsent(gh, k -> new ArrayList<>()).add(new long[] { start.toEpochDay(), end.toEpochDay() });
+			received++;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * 대기 기한이 지났다는 알림을 넣고 바로 반환합니다.
+	 *
+	 * @param request 기한이 지난 대기 요청
+	 */
+	void expired(WaitingRequest request) {
+		synchronized (lock) {
+			expired.add(request);
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * 지금까지 넣은 알림을 모두 처리할 때까지 기다립니다.
+	 */
+	void awaitIdle() {
+		synchronized (lock) {
+			boolean interrupted = false;
+			while (busy || !pending.isEmpty() || !expired.isEmpty()) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * @return 받은 알림 수, 합친 뒤 실행한 자동 예약 횟수와 처리한 만료 수
+	 */
+	String getStats() {
+		synchronized (lock) {
+			return "WaitlistWorker [received=" + received + ", processed=" + processed + ", expired=" + expiredCount
+					+ "]";
+		}
+	}
+
+	private void run() {
+		while (true) {
+			Map<Guesthouse, List<long[]>> batch;
+			List<WaitingRequest> expiredBatch;
+			synchronized (lock) {
+				while (pending.isEmpty() && expired.isEmpty()) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						// 데몬 스레드이므로 중단 요청은 무시하고 계속 처리
+					}
+				}
+				batch = pending;
+				pending = new LinkedHashMap<>();
+				expiredBatch = expired;
+				expired = new ArrayList<>();
+				busy = true;
+			}
+
+			for (WaitingRequest request : expiredBatch) {
+				try {
+					expirer.accept(request);
+				} catch (RuntimeException e) {
+					System.out.println("대기 요청 만료 처리 중 오류 발생: " + e.getMessage());
+				}
+			}
+
+			int count = 0;
+			for (Map.Entry<Guesthouse, List<long[]>> entry : batch.entrySet()) {
+				for (long[] range : merge(entry.getValue())) {
+					try {
+						handler.promote(entry.getKey(), LocalDate.ofEpochDay(range[0]), LocalDate.ofEpochDay(range[1]));
+					} catch (RuntimeException e) {
+						System.out.println("대기열 자동 예약 중 오류 발생: " + e.getMessage());
+					}
+					count++;
+				}
+			}
+
+			synchronized (lock) {
+				processed += count;
+				expiredCount += expiredBatch.size();
+				busy = false;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * 겹치거나 이어진 기간을 합쳐 시작일 순으로 반환합니다.
+	 */
+	private static List<long[]> merge(List<long[]> ranges) {
+		ranges.sort((a, b) -> Long.compare(a[0], b[0]));
+		List<long[]> merged = new ArrayList<>();
+		long[] current = null;
+		for (long[] range : ranges) {
+			if (current != null && range[0] <= current[1]) {
+				current[1] = Math.max(current[1], range[1]);
+			} else {
+				current = range.clone();
+				merged.add(current);
+			}
+		}
+		return merged;
+	}
+}
@@ -55,7 +55,7 @@ public class Account {
      * 
      * @param balance 계좌 잔액
      */
-    public void setBalance(double balance) {
+    public synchronized void setBalance(double balance) {
     	this.balance = balance;
     }
 
@@ -64,10 +64,34 @@ public class Account {
      * 
      * @return 계좌 잔액
      */
-    public double getBalance() {
+    public synchronized double getBalance() {
         return balance;
     }
 
+    /**
+     * 잔액이 충분할 때만 금액을 차감합니다. 잔액 확인과 차감이 하나의 원자적 연산으로 처리됩니다.
+     * <p>음수 금액은 입금으로 처리되며 항상 성공합니다.</p>
+     * 
+     * @param amount 차감할 금액
+     * @return 차감에 성공하면 {@code true}, 잔액이 부족하면 {@code false}
+     */
+    public synchronized boolean withdraw(double amount) {
+        if (balance < amount) {
+            return false;
+        }
+        balance -= amount;
+        return true;
+    }
+
+    /**
+     * 금액을 입금합니다.
+     * 
+     * @param amount 입금할 금액
+     */
+    public synchronized void deposit(double amount) {
+        balance += amount;
+    }
+
     /**
      * {@code Account} 객체의 문자열 표현을 반환합니다.
      * 
@@ -75,6 +99,6 @@ public class Account {
      */
     @Override
     public String toString() {
-        return "Account [username=" + username + ", balance=" + balance + "]";
+        return "Account [username=" + username + ", balance=" + getBalance() + "]";
     }
 }